@@ -0,0 +1,15 @@
+package com.example.management.core.domain;
+
+import java.util.List;
+import java.util.Map;
+
+public record BoardGraph(
+        Board board,
+        List<Column> columns,
+        Map<Long, List<Task>> tasksByColumnId
+) {
+
+    public List<Task> tasksOf(long columnId){
+        return tasksByColumnId.getOrDefault(columnId, List.of());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.management.core.domain;
+
+public record BoardSummary(
+        long id,
+        String title,
+        int totalTasks,
+        int doneTasks
+) {}
@@ -1,6 +1,8 @@
 package com.example.management.core.gateway;
 
 import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardGraph;
+import com.example.management.core.domain.BoardSummary;
 
 import java.util.List;
 
@@ -14,10 +16,16 @@ public interface BoardGateway {
 
     boolean existsByTitleAndIdNot(String title, long id);
 
-    List<Board> getAll();
+    List<Board> getAll(long afterId, int limit);
 
     Board findById(long id);
 
+    BoardGraph loadBoardGraph(long boardId);
+
+    List<BoardSummary> getAllSummaries(long afterId, int limit);
+
+    BoardSummary findSummaryById(long boardId);
+
     void deleteById(long id);
 
 }
@@ -0,0 +1,15 @@
+package com.example.management.core.gateway;
+
+import java.util.function.Supplier;
+
+public interface BoardLockGateway {
+
+    <T> T withBoardLock(long boardId, Supplier<T> action);
+
+    default void runWithBoardLock(long boardId, Runnable action){
+        withBoardLock(boardId, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
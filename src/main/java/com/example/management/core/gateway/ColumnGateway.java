@@ -8,6 +8,8 @@ public interface ColumnGateway {
 
     void save(Column column);
 
+    void saveAll(List<Column> columns);
+
     Column findById(long id);
 
     List<Column> getAllByBoardId(long boardId);
@@ -10,15 +10,17 @@ public interface TaskGateway {
 
     Task findById(long id);
 
+    long findBoardIdById(long id);
+
     boolean existsById(long id);
 
     boolean existsByTitleInBoard(String title, long boardId);
 
     boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id);
 
-    List<Task> getAllByBoardId(long boardId);
+    List<Task> getAllByBoardId(long boardId, long afterId, int limit);
 
-    List<Task> getAllByColumnId(long columnId);
+    List<Task> getAllByColumnId(long columnId, long afterId, int limit);
 
     void deleteById(long id);
 }
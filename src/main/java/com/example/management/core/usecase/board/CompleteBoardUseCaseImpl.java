@@ -1,13 +1,12 @@
 package com.example.management.core.usecase.board;
 
 import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardGraph;
 import com.example.management.core.domain.Column;
 import com.example.management.core.dto.output.ColumnOutput;
 import com.example.management.core.dto.output.CompleteBoardOutput;
 import com.example.management.core.dto.output.TaskOutput;
 import com.example.management.core.gateway.BoardGateway;
-import com.example.management.core.gateway.ColumnGateway;
-import com.example.management.core.gateway.TaskGateway;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,22 +14,19 @@ import java.util.Optional;
 public class CompleteBoardUseCaseImpl implements CompleteBoardUseCase{
 
     private final BoardGateway boardGateway;
-    private final ColumnGateway columnGateway;
-    private final TaskGateway taskGateway;
 
-    public CompleteBoardUseCaseImpl(BoardGateway boardGateway, ColumnGateway columnGateway, TaskGateway taskGateway) {
+    public CompleteBoardUseCaseImpl(BoardGateway boardGateway) {
         this.boardGateway = boardGateway;
-        this.columnGateway = columnGateway;
-        this.taskGateway = taskGateway;
     }
 
     @Override
     public CompleteBoardOutput execute(long boardId) {
-        Board board = boardGateway.findById(boardId);
-        List<Column> columns = Optional.ofNullable(columnGateway.getAllByBoardId(boardId)).orElse(List.of());
+        BoardGraph graph = boardGateway.loadBoardGraph(boardId);
+        Board board = graph.board();
+        List<Column> columns = Optional.ofNullable(graph.columns()).orElse(List.of());
 
         List<ColumnOutput> columnOutputList = columns.stream().map(col -> {
-            var tasks = Optional.ofNullable(taskGateway.getAllByColumnId(col.getId())).orElse(List.of());
+            var tasks = graph.tasksOf(col.getId());
             var tasksOutput = tasks.stream().map(task -> new TaskOutput(
                     task.getId(),
                     task.getTitle(),
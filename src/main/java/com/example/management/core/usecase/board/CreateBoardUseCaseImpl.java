@@ -7,6 +7,9 @@ import com.example.management.core.exception.DuplicateTitleException;
 import com.example.management.core.gateway.BoardGateway;
 import com.example.management.core.gateway.ColumnGateway;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class CreateBoardUseCaseImpl implements CreateBoardUseCase{
 
     private final BoardGateway boardGateway;
@@ -32,9 +35,10 @@ public class CreateBoardUseCaseImpl implements CreateBoardUseCase{
     }
 
     private void createColumnsForBoard(Board board){
+        List<Column> columns = new ArrayList<>();
         for(ColumnType type : ColumnType.values()){
-            Column column = new Column(null, board, type);
-            columnGateway.save(column);
+            columns.add(new Column(null, board, type));
         }
+        columnGateway.saveAll(columns);
     }
 }
@@ -1,20 +1,25 @@
 package com.example.management.core.usecase.board;
 
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
 import com.example.management.core.gateway.BoardGateway;
 
 public class DeleteBoardUseCaseImpl implements DeleteBoardUseCase{
 
     private final BoardGateway boardGateway;
+    private final BoardLockGateway boardLockGateway;
 
-    public DeleteBoardUseCaseImpl(BoardGateway boardGateway) {
+    public DeleteBoardUseCaseImpl(BoardGateway boardGateway, BoardLockGateway boardLockGateway) {
         this.boardGateway = boardGateway;
+        this.boardLockGateway = boardLockGateway;
     }
 
     @Override
     public void execute(long id) {
-        boolean exists = boardGateway.existsById(id);
-        if(!exists) throw new EntityNotFoundException("Board with ID " + id + " does not exist.");
-        boardGateway.deleteById(id);
+        boardLockGateway.runWithBoardLock(id, () -> {
+            boolean exists = boardGateway.existsById(id);
+            if(!exists) throw new EntityNotFoundException("Board with ID " + id + " does not exist.");
+            boardGateway.deleteById(id);
+        });
     }
 }
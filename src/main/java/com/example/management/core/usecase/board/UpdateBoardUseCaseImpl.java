@@ -4,21 +4,26 @@ import com.example.management.core.domain.Board;
 import com.example.management.core.dto.input.UpdateBoardInput;
 import com.example.management.core.exception.DuplicateTitleException;
 import com.example.management.core.gateway.BoardGateway;
+import com.example.management.core.gateway.BoardLockGateway;
 
 public class UpdateBoardUseCaseImpl implements UpdateBoardUseCase{
 
     private final BoardGateway boardGateway;
+    private final BoardLockGateway boardLockGateway;
 
-    public UpdateBoardUseCaseImpl(BoardGateway boardGateway) {
+    public UpdateBoardUseCaseImpl(BoardGateway boardGateway, BoardLockGateway boardLockGateway) {
         this.boardGateway = boardGateway;
+        this.boardLockGateway = boardLockGateway;
     }
 
     @Override
     public Board execute(UpdateBoardInput updateBoardInput) {
-        Board existingBoard = boardGateway.findById(updateBoardInput.id());
-        validateDuplicateTitle(updateBoardInput);
-        existingBoard.setTitle(updateBoardInput.newTitle());
-        return boardGateway.save(existingBoard);
+        return boardLockGateway.withBoardLock(updateBoardInput.id(), () -> {
+            Board existingBoard = boardGateway.findById(updateBoardInput.id());
+            validateDuplicateTitle(updateBoardInput);
+            existingBoard.setTitle(updateBoardInput.newTitle());
+            return boardGateway.save(existingBoard);
+        });
     }
 
     private void validateDuplicateTitle(UpdateBoardInput board){
@@ -1,22 +1,28 @@
 package com.example.management.core.usecase.task;
 
 import com.example.management.core.domain.Task;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.TaskGateway;
 
 public class BlockTaskUseCaseImpl implements BlockTaskUseCase{
 
     private final TaskGateway taskGateway;
+    private final BoardLockGateway boardLockGateway;
 
-    public BlockTaskUseCaseImpl(TaskGateway taskGateway) {
+    public BlockTaskUseCaseImpl(TaskGateway taskGateway, BoardLockGateway boardLockGateway) {
         this.taskGateway = taskGateway;
+        this.boardLockGateway = boardLockGateway;
     }
 
     @Override
     public void execute(long taskId) {
-        Task existingTask = taskGateway.findById(taskId);
-        if (!existingTask.isBlocked()){
-            existingTask.block();
-            taskGateway.save(existingTask);
-        }
+        long boardId = taskGateway.findBoardIdById(taskId);
+        boardLockGateway.runWithBoardLock(boardId, () -> {
+            Task existingTask = taskGateway.findById(taskId);
+            if(!existingTask.isBlocked()){
+                existingTask.block();
+                taskGateway.save(existingTask);
+            }
+        });
     }
 }
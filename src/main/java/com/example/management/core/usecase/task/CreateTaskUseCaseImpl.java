@@ -5,6 +5,7 @@ import com.example.management.core.domain.Task;
 import com.example.management.core.dto.input.CreateTaskInput;
 import com.example.management.core.exception.DuplicateTitleException;
 import com.example.management.core.exception.InvalidDueDateException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.ColumnGateway;
 import com.example.management.core.gateway.TaskGateway;
 
@@ -14,26 +15,32 @@ public class CreateTaskUseCaseImpl implements CreateTaskUseCase{
 
     private final TaskGateway taskGateway;
     private final ColumnGateway columnGateway;
+    private final BoardLockGateway boardLockGateway;
 
-    public CreateTaskUseCaseImpl(TaskGateway taskGateway, ColumnGateway columnGateway) {
+    public CreateTaskUseCaseImpl(TaskGateway taskGateway, ColumnGateway columnGateway, BoardLockGateway boardLockGateway) {
         this.taskGateway = taskGateway;
         this.columnGateway = columnGateway;
+        this.boardLockGateway = boardLockGateway;
     }
 
     @Override
     public Task execute(CreateTaskInput createTaskInput) {
         Column column = columnGateway.findById(createTaskInput.columnId());
         validateDueDate(createTaskInput.dueDate());
-        validateDuplicateTitleInBoard(createTaskInput.title(), column.getBoard().getId());
+        long boardId = column.getBoard().getId();
 
-        Task task = new Task(
-                null,
-                createTaskInput.title(),
-                createTaskInput.description(),
-                createTaskInput.dueDate(),
-                column);
+        return boardLockGateway.withBoardLock(boardId, () -> {
+            validateDuplicateTitleInBoard(createTaskInput.title(), boardId);
 
-        return taskGateway.save(task);
+            Task task = new Task(
+                    null,
+                    createTaskInput.title(),
+                    createTaskInput.description(),
+                    createTaskInput.dueDate(),
+                    column);
+
+            return taskGateway.save(task);
+        });
     }
 
     private void validateDueDate(LocalDate dueDate){
@@ -1,20 +1,21 @@
 package com.example.management.core.usecase.task;
 
-import com.example.management.infrastructure.exception.EntityNotFoundException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.TaskGateway;
 
 public class DeleteTaskUseCaseImpl implements DeleteTaskUseCase{
 
     private final TaskGateway taskGateway;
+    private final BoardLockGateway boardLockGateway;
 
-    public DeleteTaskUseCaseImpl(TaskGateway taskGateway) {
+    public DeleteTaskUseCaseImpl(TaskGateway taskGateway, BoardLockGateway boardLockGateway) {
         this.taskGateway = taskGateway;
+        this.boardLockGateway = boardLockGateway;
     }
 
     @Override
     public void execute(long id) {
-        boolean exists = taskGateway.existsById(id);
-        if(!exists) throw new EntityNotFoundException("Entity not found with ID: "+id);
-        taskGateway.deleteById(id);
+        long boardId = taskGateway.findBoardIdById(id);
+        boardLockGateway.runWithBoardLock(boardId, () -> taskGateway.deleteById(id));
     }
 }
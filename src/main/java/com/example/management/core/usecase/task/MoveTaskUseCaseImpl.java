@@ -3,6 +3,7 @@ package com.example.management.core.usecase.task;
 import com.example.management.core.domain.Column;
 import com.example.management.core.domain.Task;
 import com.example.management.core.dto.input.MoveTaskInput;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.ColumnGateway;
 import com.example.management.core.gateway.TaskGateway;
 
@@ -10,22 +11,27 @@ public class MoveTaskUseCaseImpl implements MoveTaskUseCase {
 
     private final TaskGateway taskGateway;
     private final ColumnGateway columnGateway;
+    private final BoardLockGateway boardLockGateway;
 
-    public MoveTaskUseCaseImpl(TaskGateway taskGateway, ColumnGateway columnGateway) {
+    public MoveTaskUseCaseImpl(TaskGateway taskGateway, ColumnGateway columnGateway, BoardLockGateway boardLockGateway) {
         this.taskGateway = taskGateway;
         this.columnGateway = columnGateway;
+        this.boardLockGateway = boardLockGateway;
     }
 
     @Override
     public void execute(MoveTaskInput moveTaskInput) {
-        Task existingTask = taskGateway.findById(moveTaskInput.taskId());
+        long boardId = taskGateway.findBoardIdById(moveTaskInput.taskId());
         Column destinationColumn = columnGateway.findById(moveTaskInput.columnId());
 
-        if(existingTask.getColumn().equals(destinationColumn)) {
-            throw new IllegalArgumentException("Task is already in the destination column");
-        }
+        boardLockGateway.runWithBoardLock(boardId, () -> {
+            Task existingTask = taskGateway.findById(moveTaskInput.taskId());
+            if(existingTask.getColumn().equals(destinationColumn)) {
+                throw new IllegalArgumentException("Task is already in the destination column");
+            }
 
-        existingTask.move(destinationColumn);
-        taskGateway.save(existingTask);
+            existingTask.move(destinationColumn);
+            taskGateway.save(existingTask);
+        });
     }
 }
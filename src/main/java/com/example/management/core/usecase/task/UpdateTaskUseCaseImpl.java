@@ -1,11 +1,11 @@
 package com.example.management.core.usecase.task;
 
-import com.example.management.core.domain.Column;
 import com.example.management.core.domain.Task;
 import com.example.management.core.dto.input.UpdateTaskInput;
 import com.example.management.core.exception.DuplicateTitleException;
 import com.example.management.core.exception.InvalidDueDateException;
 import com.example.management.core.gateway.ColumnGateway;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.TaskGateway;
 
 import java.time.LocalDate;
@@ -13,23 +13,28 @@ import java.time.LocalDate;
 public class UpdateTaskUseCaseImpl implements UpdateTaskUseCase{
 
     private final TaskGateway taskGateway;
+    private final BoardLockGateway boardLockGateway;
 
-    public UpdateTaskUseCaseImpl(TaskGateway taskGateway) {
+    public UpdateTaskUseCaseImpl(TaskGateway taskGateway, BoardLockGateway boardLockGateway) {
         this.taskGateway = taskGateway;
+        this.boardLockGateway = boardLockGateway;
     }
 
     @Override
     public Task execute(UpdateTaskInput updateTaskInput) {
-        Task existingTask = taskGateway.findById(updateTaskInput.id());
-        Column existingColumn = existingTask.getColumn();
+        long boardId = taskGateway.findBoardIdById(updateTaskInput.id());
         validateDueDate(updateTaskInput.dueDate());
-        validateDuplicateTitleInBoard(updateTaskInput.title(), existingColumn.getBoard().getId(), updateTaskInput.id());
 
-        existingTask.setTitle(updateTaskInput.title());
-        existingTask.setDescription(updateTaskInput.description());
-        existingTask.setDueDate(updateTaskInput.dueDate());
+        return boardLockGateway.withBoardLock(boardId, () -> {
+            Task existingTask = taskGateway.findById(updateTaskInput.id());
+            validateDuplicateTitleInBoard(updateTaskInput.title(), boardId, updateTaskInput.id());
 
-        return taskGateway.save(existingTask);
+            existingTask.setTitle(updateTaskInput.title());
+            existingTask.setDescription(updateTaskInput.description());
+            existingTask.setDueDate(updateTaskInput.dueDate());
+
+            return taskGateway.save(existingTask);
+        });
     }
 
     private void validateDueDate(LocalDate dueDate){
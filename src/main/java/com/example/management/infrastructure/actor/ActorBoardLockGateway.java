@@ -0,0 +1,28 @@
+package com.example.management.infrastructure.actor;
+
+import com.example.management.core.gateway.BoardLockGateway;
+
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+public class ActorBoardLockGateway implements BoardLockGateway {
+
+    private final BoardActorRegistry boardActorRegistry;
+
+    public ActorBoardLockGateway(BoardActorRegistry boardActorRegistry) {
+        this.boardActorRegistry = boardActorRegistry;
+    }
+
+    @Override
+    public <T> T withBoardLock(long boardId, Supplier<T> action) {
+        if(boardActorRegistry.isOnBoardActor(boardId)) return action.get();
+
+        try{
+            return boardActorRegistry.submit(boardId, action).join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) throw cause;
+            if(e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+}
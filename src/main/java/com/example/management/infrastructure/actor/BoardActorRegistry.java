@@ -0,0 +1,104 @@
+package com.example.management.infrastructure.actor;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class BoardActorRegistry {
+
+    private static final ThreadLocal<Long> CURRENT_BOARD = new ThreadLocal<>();
+
+    private final Map<Long, BoardActor> actors = new ConcurrentHashMap<>();
+    private final AtomicLong processedMessages = new AtomicLong();
+    private final AtomicLong evictedActors = new AtomicLong();
+
+    public <T> CompletableFuture<T> submit(long boardId, Supplier<T> action){
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable message = () -> {
+            try{
+                future.complete(action.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        actors.compute(boardId, (id, actor) -> {
+            if(actor == null) actor = new BoardActor(id);
+            actor.mailbox.add(message);
+            if(!actor.running){
+                actor.running = true;
+                Thread.ofVirtual().name("board-actor-"+id).start(actor::drain);
+            }
+            return actor;
+        });
+        return future;
+    }
+
+    public CompletableFuture<Void> submit(long boardId, Runnable action){
+        return submit(boardId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public boolean isOnBoardActor(long boardId){
+        Long current = CURRENT_BOARD.get();
+        return current != null && current == boardId;
+    }
+
+    public int getActiveActors(){
+        return actors.size();
+    }
+
+    public long getProcessedMessages(){
+        return processedMessages.get();
+    }
+
+    public long getEvictedActors(){
+        return evictedActors.get();
+    }
+
+    private final class BoardActor {
+
+        private final long boardId;
+        private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+        private boolean running;
+
+        private BoardActor(long boardId){
+            this.boardId = boardId;
+        }
+
+        private void drain(){
+            CURRENT_BOARD.set(boardId);
+            try{
+                while(true){
+                    Runnable message = mailbox.poll();
+                    if(message != null){
+                        message.run();
+                        processedMessages.incrementAndGet();
+                        continue;
+                    }
+                    if(evictIfIdle()) return;
+                }
+            } finally {
+                CURRENT_BOARD.remove();
+            }
+        }
+
+        private boolean evictIfIdle(){
+            boolean[] evicted = new boolean[1];
+            actors.computeIfPresent(boardId, (id, actor) -> {
+                if(actor != this || !mailbox.isEmpty()) return actor;
+                running = false;
+                evicted[0] = true;
+                return null;
+            });
+            if(evicted[0]) evictedActors.incrementAndGet();
+            return evicted[0];
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.management.infrastructure.collection;
+
+final class LongHashing {
+
+    private LongHashing(){}
+
+    static int mix(long key){
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    static int tableSize(int expectedSize, float loadFactor){
+        int capacity = 8;
+        while(capacity * loadFactor < Math.max(expectedSize, 1)){
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    static boolean canFill(int hole, int current, int ideal){
+        return hole <= current
+                ? ideal <= hole || ideal > current
+                : ideal <= hole && ideal > current;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.management.infrastructure.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    public LongObjectMap(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectMap(int expectedSize){
+        allocate(LongHashing.tableSize(expectedSize, LOAD_FACTOR));
+    }
+
+    private void allocate(int capacity){
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key){
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    public boolean containsKey(long key){
+        return indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value){
+        if(value == null) throw new IllegalArgumentException("Null values are not supported");
+
+        int index = LongHashing.mix(key) & mask;
+        while(values[index] != null){
+            if(keys[index] == key){
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if(++size > resizeThreshold) rehash(values.length * 2);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key){
+        int index = indexOf(key);
+        if(index < 0) return null;
+
+        V previous = (V) values[index];
+        shiftBack(index);
+        size--;
+        return previous;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public long[] keys(){
+        long[] result = new long[size];
+        int position = 0;
+        for(int i = 0; i < values.length; i++){
+            if(values[i] != null) result[position++] = keys[i];
+        }
+        return result;
+    }
+
+    public long[] sortedKeys(){
+        long[] result = keys();
+        Arrays.sort(result);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<V> values(){
+        List<V> result = new ArrayList<>(size);
+        for(Object value : values){
+            if(value != null) result.add((V) value);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action){
+        for(Object value : values){
+            if(value != null) action.accept((V) value);
+        }
+    }
+
+    public void clear(){
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int indexOf(long key){
+        int index = LongHashing.mix(key) & mask;
+        while(values[index] != null){
+            if(keys[index] == key) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftBack(int hole){
+        int current = hole;
+        while(true){
+            current = (current + 1) & mask;
+            if(values[current] == null) break;
+
+            int ideal = LongHashing.mix(keys[current]) & mask;
+            if(LongHashing.canFill(hole, current, ideal)){
+                keys[hole] = keys[current];
+                values[hole] = values[current];
+                hole = current;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void rehash(int capacity){
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+
+        for(int i = 0; i < oldValues.length; i++){
+            if(oldValues[i] == null) continue;
+            int index = LongHashing.mix(oldKeys[i]) & mask;
+            while(values[index] != null){
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+}
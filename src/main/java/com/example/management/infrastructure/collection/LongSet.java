@@ -0,0 +1,142 @@
+package com.example.management.infrastructure.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+public class LongSet {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] slots;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    public LongSet(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongSet(int expectedSize){
+        allocate(LongHashing.tableSize(expectedSize, LOAD_FACTOR));
+    }
+
+    private LongSet(LongSet source){
+        slots = source.slots.clone();
+        size = source.size;
+        mask = source.mask;
+        resizeThreshold = source.resizeThreshold;
+    }
+
+    public LongSet copy(){
+        return new LongSet(this);
+    }
+
+    private void allocate(int capacity){
+        slots = new long[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public boolean add(long value){
+        checkValue(value);
+
+        int index = LongHashing.mix(value) & mask;
+        while(slots[index] != EMPTY){
+            if(slots[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+        if(++size > resizeThreshold) rehash(slots.length * 2);
+        return true;
+    }
+
+    public boolean contains(long value){
+        return value != EMPTY && indexOf(value) >= 0;
+    }
+
+    public boolean remove(long value){
+        if(value == EMPTY) return false;
+
+        int index = indexOf(value);
+        if(index < 0) return false;
+
+        shiftBack(index);
+        size--;
+        return true;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public long[] toArray(){
+        long[] result = new long[size];
+        int position = 0;
+        for(long slot : slots){
+            if(slot != EMPTY) result[position++] = slot;
+        }
+        return result;
+    }
+
+    public long[] toSortedArray(){
+        long[] result = toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    public void forEach(LongConsumer action){
+        for(long slot : slots){
+            if(slot != EMPTY) action.accept(slot);
+        }
+    }
+
+    private void checkValue(long value){
+        if(value == EMPTY) throw new IllegalArgumentException("Long.MIN_VALUE is reserved");
+    }
+
+    private int indexOf(long value){
+        int index = LongHashing.mix(value) & mask;
+        while(slots[index] != EMPTY){
+            if(slots[index] == value) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftBack(int hole){
+        int current = hole;
+        while(true){
+            current = (current + 1) & mask;
+            if(slots[current] == EMPTY) break;
+
+            int ideal = LongHashing.mix(slots[current]) & mask;
+            if(LongHashing.canFill(hole, current, ideal)){
+                slots[hole] = slots[current];
+                hole = current;
+            }
+        }
+        slots[hole] = EMPTY;
+    }
+
+    private void rehash(int capacity){
+        long[] oldSlots = slots;
+        allocate(capacity);
+
+        for(long slot : oldSlots){
+            if(slot == EMPTY) continue;
+            int index = LongHashing.mix(slot) & mask;
+            while(slots[index] != EMPTY){
+                index = (index + 1) & mask;
+            }
+            slots[index] = slot;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.management.infrastructure.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class PersistentLongMap<V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(null, 0);
+
+    private record Leaf(long key, long hash, Object value) {}
+
+    private record Node(int bitmap, Object[] children) {}
+
+    private final Node root;
+    private final int size;
+
+    private PersistentLongMap(Node root, int size){
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentLongMap<V> empty(){
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key){
+        long hash = hash(key);
+        Node node = root;
+        int shift = 0;
+        while(node != null){
+            int bit = bit(hash, shift);
+            if((node.bitmap() & bit) == 0) return null;
+
+            Object child = node.children()[position(node.bitmap(), bit)];
+            if(child instanceof Leaf leaf) return leaf.key() == key ? (V) leaf.value() : null;
+            node = (Node) child;
+            shift += BITS;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key){
+        return get(key) != null;
+    }
+
+    public PersistentLongMap<V> plus(long key, V value){
+        if(value == null) throw new IllegalArgumentException("Null values are not supported");
+
+        boolean present = containsKey(key);
+        Node newRoot = plus(root == null ? new Node(0, new Object[0]) : root, 0, new Leaf(key, hash(key), value));
+        return new PersistentLongMap<>(newRoot, present ? size : size + 1);
+    }
+
+    public PersistentLongMap<V> minus(long key){
+        if(!containsKey(key)) return this;
+
+        Node newRoot = minus(root, 0, key, hash(key));
+        return newRoot == null ? empty() : new PersistentLongMap<>(newRoot, size - 1);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public List<V> values(){
+        List<V> values = new ArrayList<>(size);
+        forEachValue(values::add);
+        return values;
+    }
+
+    public void forEachValue(Consumer<? super V> action){
+        if(root != null) forEachValue(root, action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void forEachValue(Node node, Consumer<? super V> action){
+        for(Object child : node.children()){
+            if(child instanceof Leaf leaf) action.accept((V) leaf.value());
+            else forEachValue((Node) child, action);
+        }
+    }
+
+    private static Node plus(Node node, int shift, Leaf leaf){
+        int bit = bit(leaf.hash(), shift);
+        int position = position(node.bitmap(), bit);
+
+        if((node.bitmap() & bit) == 0){
+            Object[] children = new Object[node.children().length + 1];
+            System.arraycopy(node.children(), 0, children, 0, position);
+            children[position] = leaf;
+            System.arraycopy(node.children(), position, children, position + 1, node.children().length - position);
+            return new Node(node.bitmap() | bit, children);
+        }
+
+        Object child = node.children()[position];
+        Object replacement;
+        if(child instanceof Leaf existing){
+            replacement = existing.key() == leaf.key() ? leaf : merge(existing, leaf, shift + BITS);
+        } else {
+            replacement = plus((Node) child, shift + BITS, leaf);
+        }
+
+        Object[] children = node.children().clone();
+        children[position] = replacement;
+        return new Node(node.bitmap(), children);
+    }
+
+    private static Node merge(Leaf first, Leaf second, int shift){
+        int firstBit = bit(first.hash(), shift);
+        int secondBit = bit(second.hash(), shift);
+        if(firstBit == secondBit){
+            return new Node(firstBit, new Object[]{ merge(first, second, shift + BITS) });
+        }
+        Object[] children = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[]{ first, second }
+                : new Object[]{ second, first };
+        return new Node(firstBit | secondBit, children);
+    }
+
+    private static Node minus(Node node, int shift, long key, long hash){
+        int bit = bit(hash, shift);
+        int position = position(node.bitmap(), bit);
+        Object child = node.children()[position];
+
+        Object replacement = child instanceof Leaf ? null : minus((Node) child, shift + BITS, key, hash);
+        if(replacement instanceof Node reduced && reduced.children().length == 1 && reduced.children()[0] instanceof Leaf only){
+            replacement = only;
+        }
+
+        if(replacement != null){
+            Object[] children = node.children().clone();
+            children[position] = replacement;
+            return new Node(node.bitmap(), children);
+        }
+
+        if(node.children().length == 1) return null;
+        Object[] children = new Object[node.children().length - 1];
+        System.arraycopy(node.children(), 0, children, 0, position);
+        System.arraycopy(node.children(), position + 1, children, position, children.length - position);
+        return new Node(node.bitmap() & ~bit, children);
+    }
+
+    private static long hash(long key){
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    private static int bit(long hash, int shift){
+        return 1 << (int) ((hash >>> shift) & MASK);
+    }
+
+    private static int position(int bitmap, int bit){
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+}
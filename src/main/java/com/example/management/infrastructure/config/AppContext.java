@@ -1,22 +1,38 @@
 package com.example.management.infrastructure.config;
 
 import com.example.management.core.gateway.BoardGateway;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.ColumnGateway;
 import com.example.management.core.gateway.TaskGateway;
 import com.example.management.core.usecase.board.*;
 import com.example.management.core.usecase.task.*;
+import com.example.management.infrastructure.actor.ActorBoardLockGateway;
+import com.example.management.infrastructure.actor.BoardActorRegistry;
 import com.example.management.infrastructure.gateway.BoardRepositoryGateway;
 import com.example.management.infrastructure.gateway.ColumnRepositoryGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import com.example.management.infrastructure.gateway.TaskRepositoryGateway;
+import com.example.management.infrastructure.persistence.CompositeBoardGraphRepository;
 import com.example.management.infrastructure.persistence.db.JdbcBoardRepository;
 import com.example.management.infrastructure.persistence.db.JdbcColumnRepository;
 import com.example.management.infrastructure.persistence.db.JdbcTaskRepository;
+import com.example.management.infrastructure.persistence.file.DataDirectoryWatcher;
 import com.example.management.infrastructure.persistence.file.InFileBoardRepository;
+import com.example.management.infrastructure.persistence.file.InFileBoardSummaryRepository;
 import com.example.management.infrastructure.persistence.file.InFileColumnRepository;
 import com.example.management.infrastructure.persistence.file.InFileTaskRepository;
+import com.example.management.infrastructure.persistence.file.LogBoardRepository;
+import com.example.management.infrastructure.persistence.file.LogColumnRepository;
+import com.example.management.infrastructure.persistence.file.LogTaskRepository;
+import com.example.management.infrastructure.persistence.file.MappedTaskRepository;
+import com.example.management.infrastructure.persistence.file.ShardedBoardStore;
+import com.example.management.infrastructure.persistence.file.ShardedColumnRepository;
+import com.example.management.infrastructure.persistence.file.ShardedTaskRepository;
 import com.example.management.infrastructure.persistence.memory.InMemoryBoardRepository;
 import com.example.management.infrastructure.persistence.memory.InMemoryColumnRepository;
+import com.example.management.infrastructure.persistence.memory.InMemoryStore;
 import com.example.management.infrastructure.persistence.memory.InMemoryTaskRepository;
+import com.example.management.infrastructure.persistence.memory.OffHeapTaskRepository;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,15 +45,22 @@ public class AppContext {
     private AppContext(){
 
         //Repositories - In Memory
-        InMemoryBoardRepository inMemoryBoardRepository = new InMemoryBoardRepository();
+        InMemoryStore inMemoryStore = new InMemoryStore();
+        register(InMemoryStore.class, inMemoryStore);
+
+        InMemoryBoardRepository inMemoryBoardRepository = new InMemoryBoardRepository(inMemoryStore);
         register(InMemoryBoardRepository.class, inMemoryBoardRepository);
 
-        InMemoryColumnRepository inMemoryColumnRepository = new InMemoryColumnRepository();
+        InMemoryColumnRepository inMemoryColumnRepository = new InMemoryColumnRepository(inMemoryStore);
         register(InMemoryColumnRepository.class, inMemoryColumnRepository);
 
-        InMemoryTaskRepository inMemoryTaskRepository = new InMemoryTaskRepository();
+        InMemoryTaskRepository inMemoryTaskRepository = new InMemoryTaskRepository(inMemoryStore);
         register(InMemoryTaskRepository.class, inMemoryTaskRepository);
 
+        //Repositories - Off Heap (tasks only, columns and boards in memory)
+        OffHeapTaskRepository offHeapTaskRepository = new OffHeapTaskRepository(inMemoryColumnRepository);
+        register(OffHeapTaskRepository.class, offHeapTaskRepository);
+
         //Repositories - In File
         InFileBoardRepository inFileBoardRepository = new InFileBoardRepository();
         register(InFileBoardRepository.class, inFileBoardRepository);
@@ -48,6 +71,33 @@ public class AppContext {
         InFileTaskRepository inFileTaskRepository = new InFileTaskRepository(inFileColumnRepository);
         register(InFileTaskRepository.class, inFileTaskRepository);
 
+        //Watcher - Reloads the CSV caches when another process changes data/*.csv
+        DataDirectoryWatcher dataDirectoryWatcher = DataDirectoryWatcher.forRepositories(inFileBoardRepository, inFileColumnRepository, inFileTaskRepository);
+        register(DataDirectoryWatcher.class, dataDirectoryWatcher);
+
+        //Repositories - In Append Only Log File
+        LogBoardRepository logBoardRepository = new LogBoardRepository();
+        register(LogBoardRepository.class, logBoardRepository);
+
+        LogColumnRepository logColumnRepository = new LogColumnRepository(logBoardRepository);
+        register(LogColumnRepository.class, logColumnRepository);
+
+        LogTaskRepository logTaskRepository = new LogTaskRepository(logColumnRepository);
+        register(LogTaskRepository.class, logTaskRepository);
+
+        //Repositories - In Memory Mapped File (tasks only, columns and boards from CSV)
+        MappedTaskRepository mappedTaskRepository = new MappedTaskRepository(inFileColumnRepository);
+        register(MappedTaskRepository.class, mappedTaskRepository);
+
+        //Repositories - In File Sharded Per Board (boards from CSV)
+        ShardedBoardStore shardedBoardStore = new ShardedBoardStore();
+
+        ShardedColumnRepository shardedColumnRepository = new ShardedColumnRepository(inFileBoardRepository, shardedBoardStore);
+        register(ShardedColumnRepository.class, shardedColumnRepository);
+
+        ShardedTaskRepository shardedTaskRepository = new ShardedTaskRepository(shardedColumnRepository, shardedBoardStore);
+        register(ShardedTaskRepository.class, shardedTaskRepository);
+
         //Repositories - In Relation Data Base
         JdbcBoardRepository jdbcBoardRepository = new JdbcBoardRepository();
         register(JdbcBoardRepository.class, jdbcBoardRepository);
@@ -58,12 +108,24 @@ public class AppContext {
         JdbcTaskRepository jdbcTaskRepository = new JdbcTaskRepository();
         register(JdbcTaskRepository.class, jdbcTaskRepository);
 
+        //Board Graphs - File backends compose their cached board, column and task reads
+        CompositeBoardGraphRepository inFileBoardGraphRepository = new CompositeBoardGraphRepository(inFileBoardRepository, inFileColumnRepository, inFileTaskRepository);
+        register(CompositeBoardGraphRepository.class, inFileBoardGraphRepository);
+
+        //Board Summaries - File backend counts tasks from the CSV indexes
+        InFileBoardSummaryRepository inFileBoardSummaryRepository = new InFileBoardSummaryRepository(inFileBoardRepository, inFileColumnRepository, inFileTaskRepository);
+        register(InFileBoardSummaryRepository.class, inFileBoardSummaryRepository);
+
         //Listeners - On cascade delete simulation - List insert order important !!!
         inFileBoardRepository.addListener(inFileTaskRepository);
+        inFileBoardRepository.addListener(mappedTaskRepository);
         inFileBoardRepository.addListener(inFileColumnRepository);
+        inFileBoardRepository.addListener(shardedColumnRepository);
+        logBoardRepository.addListener(logTaskRepository);
+        logBoardRepository.addListener(logColumnRepository);
 
         //Gateways
-        BoardGateway boardGateway = new BoardRepositoryGateway(jdbcBoardRepository);
+        BoardGateway boardGateway = new BoardRepositoryGateway(jdbcBoardRepository, jdbcBoardRepository, jdbcBoardRepository);
         register(BoardGateway.class, boardGateway);
 
         ColumnGateway columnGateway = new ColumnRepositoryGateway(jdbcColumnRepository);
@@ -72,36 +134,52 @@ public class AppContext {
         TaskGateway taskGateway = new TaskRepositoryGateway(jdbcTaskRepository);
         register(TaskGateway.class, taskGateway);
 
+        StripedBoardLockGateway stripedBoardLockGateway = new StripedBoardLockGateway();
+        register(StripedBoardLockGateway.class, stripedBoardLockGateway);
+
+        //Actors - One virtual thread per board drains its mutations in order
+        BoardActorRegistry boardActorRegistry = new BoardActorRegistry();
+        register(BoardActorRegistry.class, boardActorRegistry);
+
+        ActorBoardLockGateway actorBoardLockGateway = new ActorBoardLockGateway(boardActorRegistry);
+        register(ActorBoardLockGateway.class, actorBoardLockGateway);
+
+        //Board mutations serialise on striped locks unless execution.properties opts into actors
+        BoardLockGateway boardLockGateway = ExecutionConfig.getModel() == ExecutionModel.ACTORS
+                ? actorBoardLockGateway
+                : stripedBoardLockGateway;
+        register(BoardLockGateway.class, boardLockGateway);
+
         //Use Case - Board
-        CompleteBoardUseCase completeBoardUseCase = new CompleteBoardUseCaseImpl(boardGateway, columnGateway, taskGateway);
+        CompleteBoardUseCase completeBoardUseCase = new CompleteBoardUseCaseImpl(boardGateway);
         register(CompleteBoardUseCase.class, completeBoardUseCase);
 
         CreateBoardUseCase createBoardUseCase = new CreateBoardUseCaseImpl(boardGateway, columnGateway);
         register(CreateBoardUseCase.class, createBoardUseCase);
 
-        UpdateBoardUseCase updateBoardUseCase = new UpdateBoardUseCaseImpl(boardGateway);
+        UpdateBoardUseCase updateBoardUseCase = new UpdateBoardUseCaseImpl(boardGateway, boardLockGateway);
         register(UpdateBoardUseCase.class, updateBoardUseCase);
 
-        DeleteBoardUseCase deleteBoardUseCase = new DeleteBoardUseCaseImpl(boardGateway);
+        DeleteBoardUseCase deleteBoardUseCase = new DeleteBoardUseCaseImpl(boardGateway, boardLockGateway);
         register(DeleteBoardUseCase.class, deleteBoardUseCase);
 
         //Use Case - Task
-        CreateTaskUseCase createTaskUseCase = new CreateTaskUseCaseImpl(taskGateway, columnGateway);
+        CreateTaskUseCase createTaskUseCase = new CreateTaskUseCaseImpl(taskGateway, columnGateway, boardLockGateway);
         register(CreateTaskUseCase.class, createTaskUseCase);
 
-        UpdateTaskUseCase updateTaskUseCase = new UpdateTaskUseCaseImpl(taskGateway);
+        UpdateTaskUseCase updateTaskUseCase = new UpdateTaskUseCaseImpl(taskGateway, boardLockGateway);
         register(UpdateTaskUseCase.class, updateTaskUseCase);
 
-        DeleteTaskUseCase deleteTaskUseCase = new DeleteTaskUseCaseImpl(taskGateway);
+        DeleteTaskUseCase deleteTaskUseCase = new DeleteTaskUseCaseImpl(taskGateway, boardLockGateway);
         register(DeleteTaskUseCase.class, deleteTaskUseCase);
 
-        BlockTaskUseCase blockTaskUseCase = new BlockTaskUseCaseImpl(taskGateway);
+        BlockTaskUseCase blockTaskUseCase = new BlockTaskUseCaseImpl(taskGateway, boardLockGateway);
         register(BlockTaskUseCase.class, blockTaskUseCase);
 
-        UnblockTaskUseCase unblockTaskUseCase = new UnblockTaskUseCaseImpl(taskGateway);
+        UnblockTaskUseCase unblockTaskUseCase = new UnblockTaskUseCaseImpl(taskGateway, boardLockGateway);
         register(UnblockTaskUseCase.class, unblockTaskUseCase);
 
-        MoveTaskUseCase moveTaskUseCase = new MoveTaskUseCaseImpl(taskGateway, columnGateway);
+        MoveTaskUseCase moveTaskUseCase = new MoveTaskUseCaseImpl(taskGateway, columnGateway, boardLockGateway);
         register(MoveTaskUseCase.class, moveTaskUseCase);
 
     }
@@ -0,0 +1,29 @@
+package com.example.management.infrastructure.config;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+public class ExecutionConfig {
+
+    private static final String PROPERTIES_FILE = "execution.properties";
+
+    private static final ExecutionModel model;
+
+    static {
+        try (InputStream input = ExecutionConfig.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+
+            Properties props = new Properties();
+            if(input != null) props.load(input);
+
+            model = ExecutionModel.valueOf(props.getProperty("execution.model", "LOCKS").trim().toUpperCase());
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException("Error loading execution configuration");
+        }
+    }
+
+    public static ExecutionModel getModel() {
+        return model;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.management.infrastructure.config;
+
+public enum ExecutionModel {
+    LOCKS,
+    ACTORS
+}
@@ -1,18 +1,27 @@
 package com.example.management.infrastructure.gateway;
 
 import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardGraph;
+import com.example.management.core.domain.BoardSummary;
 import com.example.management.core.gateway.BoardGateway;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
+import com.example.management.infrastructure.persistence.BoardGraphRepository;
 import com.example.management.infrastructure.persistence.BoardRepository;
+import com.example.management.infrastructure.persistence.BoardSummaryRepository;
 
 import java.util.List;
 
 public class BoardRepositoryGateway implements BoardGateway {
 
     private final BoardRepository boardRepository;
+    private final BoardGraphRepository boardGraphRepository;
+    private final BoardSummaryRepository boardSummaryRepository;
 
-    public BoardRepositoryGateway(BoardRepository boardRepository) {
+    public BoardRepositoryGateway(BoardRepository boardRepository, BoardGraphRepository boardGraphRepository,
+                                  BoardSummaryRepository boardSummaryRepository) {
         this.boardRepository = boardRepository;
+        this.boardGraphRepository = boardGraphRepository;
+        this.boardSummaryRepository = boardSummaryRepository;
     }
 
     @Override
@@ -36,8 +45,8 @@ public class BoardRepositoryGateway implements BoardGateway {
     }
 
     @Override
-    public List<Board> getAll() {
-        return boardRepository.getAll();
+    public List<Board> getAll(long afterId, int limit) {
+        return boardRepository.getAll(afterId, limit);
     }
 
     @Override
@@ -46,6 +55,23 @@ public class BoardRepositoryGateway implements BoardGateway {
                 .orElseThrow(() -> new EntityNotFoundException("Entity not found by ID: \""+id+"\""));
     }
 
+    @Override
+    public BoardGraph loadBoardGraph(long boardId) {
+        return boardGraphRepository.loadBoardGraph(boardId)
+                .orElseThrow(() -> new EntityNotFoundException("Entity not found by ID: \""+boardId+"\""));
+    }
+
+    @Override
+    public List<BoardSummary> getAllSummaries(long afterId, int limit) {
+        return boardSummaryRepository.findAllSummaries(afterId, limit);
+    }
+
+    @Override
+    public BoardSummary findSummaryById(long boardId) {
+        return boardSummaryRepository.findSummaryById(boardId)
+                .orElseThrow(() -> new EntityNotFoundException("Entity not found by ID: \""+boardId+"\""));
+    }
+
     @Override
     public void deleteById(long id) {
         boardRepository.deleteById(id);
@@ -20,6 +20,11 @@ public class ColumnRepositoryGateway implements ColumnGateway {
          this.columnRepository.save(column);
     }
 
+    @Override
+    public void saveAll(List<Column> columns) {
+        this.columnRepository.saveAll(columns);
+    }
+
     @Override
     public Column findById(long id) {
         return columnRepository.findById(id)
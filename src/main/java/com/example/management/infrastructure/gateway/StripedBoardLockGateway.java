@@ -0,0 +1,42 @@
+package com.example.management.infrastructure.gateway;
+
+import com.example.management.core.gateway.BoardLockGateway;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class StripedBoardLockGateway implements BoardLockGateway {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final ReentrantLock[] stripes;
+
+    public StripedBoardLockGateway() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public StripedBoardLockGateway(int stripes) {
+        if(Integer.bitCount(stripes) != 1) throw new IllegalArgumentException("Stripes must be a power of two: "+stripes);
+
+        this.stripes = new ReentrantLock[stripes];
+        for(int i = 0; i < stripes; i++){
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public <T> T withBoardLock(long boardId, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(boardId);
+        lock.lock();
+        try{
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(long boardId){
+        long hash = boardId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash >>> 32) & (stripes.length - 1)];
+    }
+}
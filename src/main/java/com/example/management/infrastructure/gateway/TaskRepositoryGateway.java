@@ -27,6 +27,12 @@ public class TaskRepositoryGateway implements TaskGateway {
                 .orElseThrow(() -> new EntityNotFoundException("Entity not found with ID: "+id));
     }
 
+    @Override
+    public long findBoardIdById(long id) {
+        return taskRepository.findBoardIdById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Entity not found with ID: "+id));
+    }
+
     @Override
     public boolean existsById(long id) {
         return taskRepository.existsById(id);
@@ -43,13 +49,13 @@ public class TaskRepositoryGateway implements TaskGateway {
     }
 
     @Override
-    public List<Task> getAllByBoardId(long boardId) {
-        return taskRepository.findAllByBoardId(boardId);
+    public List<Task> getAllByBoardId(long boardId, long afterId, int limit) {
+        return taskRepository.findAllByBoardId(boardId, afterId, limit);
     }
 
     @Override
-    public List<Task> getAllByColumnId(long columnId) {
-        return taskRepository.findAllByColumnId(columnId);
+    public List<Task> getAllByColumnId(long columnId, long afterId, int limit) {
+        return taskRepository.findAllByColumnId(columnId, afterId, limit);
     }
 
     @Override
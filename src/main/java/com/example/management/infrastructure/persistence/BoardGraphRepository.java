@@ -0,0 +1,9 @@
+package com.example.management.infrastructure.persistence;
+
+import com.example.management.core.domain.BoardGraph;
+
+import java.util.Optional;
+
+public interface BoardGraphRepository {
+    Optional<BoardGraph> loadBoardGraph(long boardId);
+}
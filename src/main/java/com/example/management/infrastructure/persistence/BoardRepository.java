@@ -2,6 +2,7 @@ package com.example.management.infrastructure.persistence;
 
 import com.example.management.core.domain.Board;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,14 @@ public interface BoardRepository {
 
     List<Board> getAll();
 
+    default List<Board> getAll(long afterId, int limit){
+        return getAll().stream()
+                .filter(board -> board.getId() > afterId)
+                .sorted(Comparator.comparing(Board::getId))
+                .limit(limit)
+                .toList();
+    }
+
     Optional<Board> findById(long id);
 
     void deleteById(long id);
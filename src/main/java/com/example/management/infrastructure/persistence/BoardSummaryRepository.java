@@ -0,0 +1,14 @@
+package com.example.management.infrastructure.persistence;
+
+import com.example.management.core.domain.BoardSummary;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BoardSummaryRepository {
+    List<BoardSummary> findAllSummaries();
+
+    List<BoardSummary> findAllSummaries(long afterId, int limit);
+
+    Optional<BoardSummary> findSummaryById(long boardId);
+}
@@ -8,6 +8,8 @@ import java.util.Optional;
 public interface ColumnRepository {
     void save(Column column);
 
+    void saveAll(List<Column> columns);
+
     Optional<Column> findById(long id);
 
     List<Column> findAllByBoardId(long boardId);
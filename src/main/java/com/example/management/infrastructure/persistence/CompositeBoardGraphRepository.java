@@ -0,0 +1,38 @@
+package com.example.management.infrastructure.persistence;
+
+import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardGraph;
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class CompositeBoardGraphRepository implements BoardGraphRepository {
+
+    private final BoardRepository boardRepository;
+    private final ColumnRepository columnRepository;
+    private final TaskRepository taskRepository;
+
+    public CompositeBoardGraphRepository(BoardRepository boardRepository, ColumnRepository columnRepository, TaskRepository taskRepository) {
+        this.boardRepository = boardRepository;
+        this.columnRepository = columnRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public Optional<BoardGraph> loadBoardGraph(long boardId) {
+        Optional<Board> board = boardRepository.findById(boardId);
+        if(board.isEmpty()) return Optional.empty();
+
+        List<Column> columns = columnRepository.findAllByBoardId(boardId);
+        Map<Long, List<Task>> tasksByColumnId = new LinkedHashMap<>();
+        for(Task task : taskRepository.findAllByBoardId(boardId)){
+            tasksByColumnId.computeIfAbsent(task.getColumn().getId(), columnId -> new ArrayList<>()).add(task);
+        }
+        return Optional.of(new BoardGraph(board.get(), columns, tasksByColumnId));
+    }
+}
@@ -2,8 +2,11 @@ package com.example.management.infrastructure.persistence;
 
 import com.example.management.core.domain.Task;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public interface TaskRepository {
 
@@ -11,6 +14,10 @@ public interface TaskRepository {
 
     Optional<Task> findById(long id);
 
+    default OptionalLong findBoardIdById(long id){
+        return findById(id).stream().mapToLong(task -> task.getColumn().getBoard().getId()).findFirst();
+    }
+
     boolean existsById(long id);
 
     boolean existsByTitleInBoard(String title, long boardId);
@@ -21,5 +28,25 @@ public interface TaskRepository {
 
     List<Task> findAllByColumnId(long columnId);
 
+    default List<Task> findAllByBoardId(long boardId, long afterId, int limit){
+        return page(findAllByBoardId(boardId), afterId, limit);
+    }
+
+    default List<Task> findAllByColumnId(long columnId, long afterId, int limit){
+        return page(findAllByColumnId(columnId), afterId, limit);
+    }
+
     void deleteById(long id);
+
+    default void deleteAllById(Collection<Long> ids){
+        ids.forEach(this::deleteById);
+    }
+
+    private static List<Task> page(List<Task> tasks, long afterId, int limit){
+        return tasks.stream()
+                .filter(task -> task.getId() > afterId)
+                .sorted(Comparator.comparing(Task::getId))
+                .limit(limit)
+                .toList();
+    }
 }
@@ -1,22 +1,92 @@
 package com.example.management.infrastructure.persistence.db;
 
 import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardGraph;
+import com.example.management.core.domain.BoardSummary;
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+import com.example.management.core.enums.ColumnType;
+import com.example.management.infrastructure.persistence.BoardGraphRepository;
 import com.example.management.infrastructure.persistence.BoardRepository;
+import com.example.management.infrastructure.persistence.BoardSummaryRepository;
 import com.example.management.infrastructure.persistence.db.connection.ConnectionFactory;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-public class JdbcBoardRepository implements BoardRepository {
+public class JdbcBoardRepository implements BoardRepository, BoardGraphRepository, BoardSummaryRepository {
+
+    private static final String INSERT_BOARD = "INSERT INTO tb_board (title, created_at) VALUES (? ,?) RETURNING id";
+
+    private static final String UPDATE_BOARD = "UPDATE tb_board SET title = ? WHERE id = ?";
+
+    private static final String EXISTS_BY_ID = "SELECT 1 FROM tb_board WHERE id = ?";
+
+    private static final String EXISTS_BY_TITLE = "SELECT 1 FROM tb_board WHERE title = ?";
+
+    private static final String EXISTS_BY_TITLE_AND_ID_NOT = "SELECT 1 FROM tb_board WHERE title = ? AND id <> ?";
+
+    private static final String FIND_ALL = "SELECT * FROM tb_board ORDER BY id";
+
+    private static final String FIND_PAGE = "SELECT * FROM tb_board WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String FIND_BY_ID = "SELECT * FROM tb_board WHERE id = ?";
+
+    private static final String DELETE_BY_ID = "DELETE FROM tb_board WHERE id = ?";
+
+    private static final String LOAD_BOARD_GRAPH = """
+            SELECT b.id as board_id, b.title as board_title, b.created_at as board_created,
+                   c.id as column_id, c.type,
+                   t.id as task_id, t.title, t.description, t.due_date, t.blocked, t.created_at
+            FROM tb_board b
+            LEFT JOIN tb_column c ON c.board_id = b.id
+            LEFT JOIN tb_task t ON t.column_id = c.id
+            WHERE b.id = ?
+            ORDER BY c.id, t.id
+            """;
+
+    private static final String FIND_ALL_SUMMARIES = """
+            SELECT b.id, b.title,
+                   COUNT(t.id) as total_tasks,
+                   COUNT(t.id) FILTER (WHERE c.type = 'DONE') as done_tasks
+            FROM tb_board b
+            LEFT JOIN tb_column c ON c.board_id = b.id
+            LEFT JOIN tb_task t ON t.column_id = c.id
+            GROUP BY b.id, b.title
+            ORDER BY b.id
+            """;
+
+    private static final String FIND_SUMMARIES_PAGE = """
+            SELECT b.id, b.title,
+                   COUNT(t.id) as total_tasks,
+                   COUNT(t.id) FILTER (WHERE c.type = 'DONE') as done_tasks
+            FROM (SELECT id, title FROM tb_board WHERE id > ? ORDER BY id LIMIT ?) b
+            LEFT JOIN tb_column c ON c.board_id = b.id
+            LEFT JOIN tb_task t ON t.column_id = c.id
+            GROUP BY b.id, b.title
+            ORDER BY b.id
+            """;
+
+    private static final String FIND_SUMMARY_BY_ID = """
+            SELECT b.id, b.title,
+                   COUNT(t.id) as total_tasks,
+                   COUNT(t.id) FILTER (WHERE c.type = 'DONE') as done_tasks
+            FROM tb_board b
+            LEFT JOIN tb_column c ON c.board_id = b.id
+            LEFT JOIN tb_task t ON t.column_id = c.id
+            WHERE b.id = ?
+            GROUP BY b.id, b.title
+            """;
 
     @Override
     public Board save(Board board) {
         if(board.getId() == null){
-            String sql = "INSERT INTO tb_board (title, created_at) VALUES (? ,?) RETURNING id";
             try(Connection conn = ConnectionFactory.getConnection();
-                PreparedStatement preparedStatement = conn.prepareStatement(sql)){
+                PreparedStatement preparedStatement = conn.prepareStatement(INSERT_BOARD)){
 
                 preparedStatement.setString(1, board.getTitle());
                 preparedStatement.setTimestamp(2, Timestamp.valueOf(board.getCreatedAt()));
@@ -31,9 +101,8 @@ public class JdbcBoardRepository implements BoardRepository {
             }
 
         } else {
-            String sql = "UPDATE tb_board SET title = ? WHERE id = ?";
             try(Connection conn = ConnectionFactory.getConnection();
-                PreparedStatement preparedStatement = conn.prepareStatement(sql)){
+                PreparedStatement preparedStatement = conn.prepareStatement(UPDATE_BOARD)){
 
                 preparedStatement.setString(1, board.getTitle());
                 preparedStatement.setLong(2, board.getId());
@@ -48,9 +117,8 @@ public class JdbcBoardRepository implements BoardRepository {
 
     @Override
     public boolean existsById(long id) {
-        String sql = "SELECT 1 FROM tb_board WHERE id = ?";
         try(Connection conn = ConnectionFactory.getConnection();
-            PreparedStatement preparedStatement = conn.prepareStatement(sql)){
+            PreparedStatement preparedStatement = conn.prepareStatement(EXISTS_BY_ID)){
 
             preparedStatement.setLong(1, id);
             return preparedStatement.executeQuery().next();
@@ -63,9 +131,8 @@ public class JdbcBoardRepository implements BoardRepository {
 
     @Override
     public boolean existsByTitle(String title) {
-        String sql = "SELECT 1 FROM tb_board WHERE title = ?";
         try(Connection conn = ConnectionFactory.getConnection();
-            PreparedStatement preparedStatement = conn.prepareStatement(sql)){
+            PreparedStatement preparedStatement = conn.prepareStatement(EXISTS_BY_TITLE)){
 
             preparedStatement.setString(1, title);
             return preparedStatement.executeQuery().next();
@@ -78,9 +145,8 @@ public class JdbcBoardRepository implements BoardRepository {
 
     @Override
     public boolean existsByTitleAndIdNot(String title, long id) {
-        String sql = "SELECT 1 FROM tb_board WHERE title = ? AND id <> ?";
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
+             PreparedStatement preparedStatement = conn.prepareStatement(EXISTS_BY_TITLE_AND_ID_NOT)) {
             preparedStatement.setString(1, title);
             preparedStatement.setLong(2, id);
             return preparedStatement.executeQuery().next();
@@ -92,18 +158,13 @@ public class JdbcBoardRepository implements BoardRepository {
 
     @Override
     public List<Board> getAll() {
-        String sql = "SELECT * FROM tb_board";
         List<Board> boards = new ArrayList<>();
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement preparedStatement = conn.prepareStatement(sql);
+             PreparedStatement preparedStatement = conn.prepareStatement(FIND_ALL);
              ResultSet rs = preparedStatement.executeQuery()) {
 
             while (rs.next()) {
-                Board board = new Board();
-                board.setId(rs.getLong("id"));
-                board.setTitle(rs.getString("title"));
-                board.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-                boards.add(board);
+                boards.add(mapBoard(rs));
             }
         } catch (SQLException e) {
             System.out.println("Error getting all boards");
@@ -111,19 +172,31 @@ public class JdbcBoardRepository implements BoardRepository {
         return boards;
     }
 
+    @Override
+    public List<Board> getAll(long afterId, int limit) {
+        List<Board> boards = new ArrayList<>();
+        try (Connection conn = ConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = conn.prepareStatement(FIND_PAGE)) {
+            preparedStatement.setLong(1, afterId);
+            preparedStatement.setInt(2, limit);
+            ResultSet rs = preparedStatement.executeQuery();
+            while (rs.next()) {
+                boards.add(mapBoard(rs));
+            }
+        } catch (SQLException e) {
+            System.out.println("Error getting boards page");
+        }
+        return boards;
+    }
+
     @Override
     public Optional<Board> findById(long id) {
-        String sql = "SELECT * FROM tb_board WHERE id = ?";
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
+             PreparedStatement preparedStatement = conn.prepareStatement(FIND_BY_ID)) {
             preparedStatement.setLong(1, id);
             ResultSet rs = preparedStatement.executeQuery();
             if (rs.next()) {
-                Board board = new Board();
-                board.setId(rs.getLong("id"));
-                board.setTitle(rs.getString("title"));
-                board.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-                return Optional.of(board);
+                return Optional.of(mapBoard(rs));
             }
         } catch (SQLException e) {
             System.out.println("Error finding board by id");
@@ -133,13 +206,125 @@ public class JdbcBoardRepository implements BoardRepository {
 
     @Override
     public void deleteById(long id) {
-        String sql = "DELETE FROM tb_board WHERE id = ?";
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
+             PreparedStatement preparedStatement = conn.prepareStatement(DELETE_BY_ID)) {
             preparedStatement.setLong(1, id);
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
             System.out.println("Error deleting board by id");
         }
     }
+
+    @Override
+    public Optional<BoardGraph> loadBoardGraph(long boardId) {
+        try (Connection conn = ConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = conn.prepareStatement(LOAD_BOARD_GRAPH)) {
+            preparedStatement.setLong(1, boardId);
+            ResultSet rs = preparedStatement.executeQuery();
+
+            Board board = null;
+            Map<Long, Column> columns = new LinkedHashMap<>();
+            Map<Long, List<Task>> tasksByColumnId = new LinkedHashMap<>();
+            while (rs.next()) {
+                if (board == null) {
+                    board = new Board();
+                    board.setId(rs.getLong("board_id"));
+                    board.setTitle(rs.getString("board_title"));
+                    board.setCreatedAt(rs.getTimestamp("board_created").toLocalDateTime());
+                }
+
+                long columnId = rs.getLong("column_id");
+                if (rs.wasNull()) continue;
+
+                Column column = columns.get(columnId);
+                if (column == null) {
+                    column = new Column(columnId, board, ColumnType.valueOf(rs.getString("type")));
+                    columns.put(columnId, column);
+                    tasksByColumnId.put(columnId, new ArrayList<>());
+                }
+
+                long taskId = rs.getLong("task_id");
+                if (rs.wasNull()) continue;
+
+                Task task = new Task();
+                task.setId(taskId);
+                task.setTitle(rs.getString("title"));
+                task.setDescription(rs.getString("description"));
+                task.setDueDate(rs.getDate("due_date").toLocalDate());
+                task.setBlocked(rs.getBoolean("blocked"));
+                task.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+                task.setColumn(column);
+                tasksByColumnId.get(columnId).add(task);
+            }
+
+            if (board != null) return Optional.of(new BoardGraph(board, List.copyOf(columns.values()), tasksByColumnId));
+        } catch (SQLException e) {
+            System.out.println("Error loading board graph by id");
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<BoardSummary> findAllSummaries() {
+        List<BoardSummary> summaries = new ArrayList<>();
+        try (Connection conn = ConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = conn.prepareStatement(FIND_ALL_SUMMARIES);
+             ResultSet rs = preparedStatement.executeQuery()) {
+
+            while (rs.next()) {
+                summaries.add(mapSummary(rs));
+            }
+        } catch (SQLException e) {
+            System.out.println("Error getting all board summaries");
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<BoardSummary> findAllSummaries(long afterId, int limit) {
+        List<BoardSummary> summaries = new ArrayList<>();
+        try (Connection conn = ConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = conn.prepareStatement(FIND_SUMMARIES_PAGE)) {
+            preparedStatement.setLong(1, afterId);
+            preparedStatement.setInt(2, limit);
+            ResultSet rs = preparedStatement.executeQuery();
+            while (rs.next()) {
+                summaries.add(mapSummary(rs));
+            }
+        } catch (SQLException e) {
+            System.out.println("Error getting board summaries page");
+        }
+        return summaries;
+    }
+
+    @Override
+    public Optional<BoardSummary> findSummaryById(long boardId) {
+        try (Connection conn = ConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = conn.prepareStatement(FIND_SUMMARY_BY_ID)) {
+            preparedStatement.setLong(1, boardId);
+            ResultSet rs = preparedStatement.executeQuery();
+            if (rs.next()) {
+                return Optional.of(mapSummary(rs));
+            }
+        } catch (SQLException e) {
+            System.out.println("Error finding board summary by id");
+        }
+        return Optional.empty();
+    }
+
+    private Board mapBoard(ResultSet rs) throws SQLException {
+        Board board = new Board();
+        board.setId(rs.getLong("id"));
+        board.setTitle(rs.getString("title"));
+        board.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        return board;
+    }
+
+    private BoardSummary mapSummary(ResultSet rs) throws SQLException {
+        return new BoardSummary(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getInt("total_tasks"),
+                rs.getInt("done_tasks"));
+    }
 }
@@ -8,18 +8,35 @@ import com.example.management.infrastructure.persistence.db.connection.Connectio
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class JdbcColumnRepository implements ColumnRepository {
 
+    private static final String INSERT_COLUMN = "INSERT INTO tb_column (board_id, type) VALUES (?, ?::column_type)";
+
+    private static final String FIND_BY_ID = """
+            SELECT c.id as column_id, c.type, c.board_id, b.title, b.created_at
+            FROM tb_column c
+            JOIN tb_board b ON c.board_id = b.id
+            WHERE c.id = ?
+            """;
+
+    private static final String FIND_ALL_BY_BOARD_ID = """
+            SELECT c.id as column_id, c.type, b.id as board_id, b.title, b.created_at
+            FROM tb_column c
+            JOIN tb_board b ON c.board_id = b.id
+            WHERE c.board_id = ?
+            """;
+
     @Override
     public void save(Column column) {
-        String sql = "INSERT INTO tb_column (board_id, type) VALUES (?, ?::column_type)";
         try(Connection conn = ConnectionFactory.getConnection();
-            PreparedStatement preparedStatement = conn.prepareStatement(sql)){
+            PreparedStatement preparedStatement = conn.prepareStatement(INSERT_COLUMN)){
 
             preparedStatement.setLong(1, column.getBoard().getId());
             preparedStatement.setString(2, column.getType().name());
@@ -31,17 +48,38 @@ public class JdbcColumnRepository implements ColumnRepository {
 
     }
 
+    @Override
+    public void saveAll(List<Column> columns) {
+        if(columns.isEmpty()) return;
+
+        try(Connection conn = ConnectionFactory.getConnection();
+            PreparedStatement preparedStatement = conn.prepareStatement(INSERT_COLUMN, Statement.RETURN_GENERATED_KEYS)){
+
+            for(Column column : columns){
+                preparedStatement.setLong(1, column.getBoard().getId());
+                preparedStatement.setString(2, column.getType().name());
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+
+            // Generated keys come back in batch order
+            try(ResultSet rs = preparedStatement.getGeneratedKeys()){
+                for(Column column : columns){
+                    if(!rs.next()) break;
+                    column.setId(rs.getLong("id"));
+                }
+            }
+
+        }catch (SQLException e){
+            System.out.println("Error saving columns");
+        }
+    }
+
     @Override
     public Optional<Column> findById(long id) {
-        String sql = """
-        SELECT c.id as column_id, c.type, c.board_id, b.title, b.created_at
-        FROM tb_column c
-        JOIN tb_board b ON c.board_id = b.id
-        WHERE c.id = ?
-        """;
 
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(FIND_BY_ID)) {
 
             stmt.setLong(1, id);
             var rs = stmt.executeQuery();
@@ -69,17 +107,11 @@ public class JdbcColumnRepository implements ColumnRepository {
 
     @Override
     public List<Column> findAllByBoardId(long boardId) {
-        String sql = """
-        SELECT c.id as column_id, c.type, b.id as board_id, b.title, b.created_at
-        FROM tb_column c
-        JOIN tb_board b ON c.board_id = b.id
-        WHERE c.board_id = ?
-        """;
 
         List<Column> columns = new ArrayList<>();
 
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(FIND_ALL_BY_BOARD_ID)) {
 
             stmt.setLong(1, boardId);
             var rs = stmt.executeQuery();
@@ -11,18 +11,94 @@ import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public class JdbcTaskRepository implements TaskRepository {
 
+    private static final String INSERT_TASK = """
+            INSERT INTO tb_task (title, description, due_date, blocked, created_at, column_id)
+            VALUES (?, ?, ?, ?, ?, ?) RETURNING id
+            """;
+
+    private static final String UPDATE_TASK = """
+            UPDATE tb_task SET title = ?, description = ?, due_date = ?, blocked = ?, column_id = ?
+            WHERE id = ?
+            """;
+
+    private static final String FIND_BY_ID = """
+            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            JOIN tb_board b ON c.board_id = b.id
+            WHERE t.id = ?
+            """;
+
+    private static final String FIND_BOARD_ID_BY_ID = """
+            SELECT c.board_id
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            WHERE t.id = ?
+            """;
+
+    private static final String EXISTS_BY_ID = "SELECT 1 FROM tb_task WHERE id = ?";
+
+    private static final String EXISTS_BY_TITLE_IN_BOARD = """
+            SELECT 1
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            WHERE t.title = ? AND c.board_id = ?
+            """;
+
+    private static final String EXISTS_BY_TITLE_IN_BOARD_AND_ID_NOT = """
+            SELECT 1
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            WHERE t.title = ? AND c.board_id = ? AND t.id <> ?
+            """;
+
+    private static final String FIND_ALL_BY_BOARD_ID = """
+            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            JOIN tb_board b ON c.board_id = b.id
+            WHERE b.id = ?
+            """;
+
+    private static final String FIND_ALL_BY_COLUMN_ID = """
+            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            JOIN tb_board b ON c.board_id = b.id
+            WHERE c.id = ?
+            """;
+
+    private static final String FIND_PAGE_BY_BOARD_ID = """
+            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            JOIN tb_board b ON c.board_id = b.id
+            WHERE b.id = ? AND t.id > ?
+            ORDER BY t.id
+            LIMIT ?
+            """;
+
+    private static final String FIND_PAGE_BY_COLUMN_ID = """
+            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
+            FROM tb_task t
+            JOIN tb_column c ON t.column_id = c.id
+            JOIN tb_board b ON c.board_id = b.id
+            WHERE c.id = ? AND t.id > ?
+            ORDER BY t.id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_BY_ID = "DELETE FROM tb_task WHERE id = ?";
+
     @Override
     public Task save(Task task) {
         if (task.getId() == null) {
-            String sql = """
-                INSERT INTO tb_task (title, description, due_date, blocked, created_at, column_id)
-                VALUES (?, ?, ?, ?, ?, ?) RETURNING id
-            """;
             try (Connection conn = ConnectionFactory.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                 PreparedStatement stmt = conn.prepareStatement(INSERT_TASK)) {
 
                 stmt.setString(1, task.getTitle());
                 stmt.setString(2, task.getDescription());
@@ -40,12 +116,8 @@ public class JdbcTaskRepository implements TaskRepository {
                 System.out.println("Error saving task");
             }
         } else {
-            String sql = """
-                UPDATE tb_task SET title = ?, description = ?, due_date = ?, blocked = ?, column_id = ?
-                WHERE id = ?
-            """;
             try (Connection conn = ConnectionFactory.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                 PreparedStatement stmt = conn.prepareStatement(UPDATE_TASK)) {
 
                 stmt.setString(1, task.getTitle());
                 stmt.setString(2, task.getDescription());
@@ -64,15 +136,8 @@ public class JdbcTaskRepository implements TaskRepository {
 
     @Override
     public Optional<Task> findById(long id) {
-        String sql = """
-            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
-            FROM tb_task t
-            JOIN tb_column c ON t.column_id = c.id
-            JOIN tb_board b ON c.board_id = b.id
-            WHERE t.id = ?
-        """;
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(FIND_BY_ID)) {
 
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
@@ -87,11 +152,28 @@ public class JdbcTaskRepository implements TaskRepository {
         return Optional.empty();
     }
 
+    @Override
+    public OptionalLong findBoardIdById(long id) {
+        try (Connection conn = ConnectionFactory.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(FIND_BOARD_ID_BY_ID)) {
+
+            stmt.setLong(1, id);
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return OptionalLong.of(rs.getLong("board_id"));
+            }
+
+        } catch (SQLException e) {
+            System.out.println("Error finding board id by task id");
+        }
+        return OptionalLong.empty();
+    }
+
     @Override
     public boolean existsById(long id) {
-        String sql = "SELECT 1 FROM tb_task WHERE id = ?";
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(EXISTS_BY_ID)) {
 
             stmt.setLong(1, id);
             return stmt.executeQuery().next();
@@ -104,14 +186,8 @@ public class JdbcTaskRepository implements TaskRepository {
 
     @Override
     public boolean existsByTitleInBoard(String title, long boardId) {
-        String sql = """
-            SELECT 1
-            FROM tb_task t
-            JOIN tb_column c ON t.column_id = c.id
-            WHERE t.title = ? AND c.board_id = ?
-        """;
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(EXISTS_BY_TITLE_IN_BOARD)) {
 
             stmt.setString(1, title);
             stmt.setLong(2, boardId);
@@ -125,14 +201,8 @@ public class JdbcTaskRepository implements TaskRepository {
 
     @Override
     public boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id) {
-        String sql = """
-            SELECT 1
-            FROM tb_task t
-            JOIN tb_column c ON t.column_id = c.id
-            WHERE t.title = ? AND c.board_id = ? AND t.id <> ?
-        """;
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(EXISTS_BY_TITLE_IN_BOARD_AND_ID_NOT)) {
 
             stmt.setString(1, title);
             stmt.setLong(2, boardId);
@@ -147,16 +217,9 @@ public class JdbcTaskRepository implements TaskRepository {
 
     @Override
     public List<Task> findAllByBoardId(long boardId) {
-        String sql = """
-            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
-            FROM tb_task t
-            JOIN tb_column c ON t.column_id = c.id
-            JOIN tb_board b ON c.board_id = b.id
-            WHERE b.id = ?
-        """;
         List<Task> tasks = new ArrayList<>();
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(FIND_ALL_BY_BOARD_ID)) {
 
             stmt.setLong(1, boardId);
             ResultSet rs = stmt.executeQuery();
@@ -172,16 +235,9 @@ public class JdbcTaskRepository implements TaskRepository {
 
     @Override
     public List<Task> findAllByColumnId(long columnId) {
-        String sql = """
-            SELECT t.*, c.id as column_id, c.type, b.id as board_id, b.title as board_title, b.created_at as board_created
-            FROM tb_task t
-            JOIN tb_column c ON t.column_id = c.id
-            JOIN tb_board b ON c.board_id = b.id
-            WHERE c.id = ?
-        """;
         List<Task> tasks = new ArrayList<>();
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(FIND_ALL_BY_COLUMN_ID)) {
 
             stmt.setLong(1, columnId);
             ResultSet rs = stmt.executeQuery();
@@ -195,11 +251,20 @@ public class JdbcTaskRepository implements TaskRepository {
         return tasks;
     }
 
+    @Override
+    public List<Task> findAllByBoardId(long boardId, long afterId, int limit) {
+        return findPage(FIND_PAGE_BY_BOARD_ID, boardId, afterId, limit);
+    }
+
+    @Override
+    public List<Task> findAllByColumnId(long columnId, long afterId, int limit) {
+        return findPage(FIND_PAGE_BY_COLUMN_ID, columnId, afterId, limit);
+    }
+
     @Override
     public void deleteById(long id) {
-        String sql = "DELETE FROM tb_task WHERE id = ?";
         try (Connection conn = ConnectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(DELETE_BY_ID)) {
 
             stmt.setLong(1, id);
             stmt.executeUpdate();
@@ -209,6 +274,25 @@ public class JdbcTaskRepository implements TaskRepository {
         }
     }
 
+    private List<Task> findPage(String sql, long ownerId, long afterId, int limit) {
+        List<Task> tasks = new ArrayList<>();
+        try (Connection conn = ConnectionFactory.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, ownerId);
+            stmt.setLong(2, afterId);
+            stmt.setInt(3, limit);
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                tasks.add(mapTask(rs));
+            }
+
+        } catch (SQLException e) {
+            System.out.println("Error finding tasks page");
+        }
+        return tasks;
+    }
+
     private Task mapTask(ResultSet rs) throws SQLException {
         Task task = new Task();
         task.setId(rs.getLong("id"));
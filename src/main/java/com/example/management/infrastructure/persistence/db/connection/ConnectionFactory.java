@@ -2,7 +2,6 @@ package com.example.management.infrastructure.persistence.db.connection;
 
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -10,9 +9,7 @@ public class ConnectionFactory {
 
     private static final String PROPERTIES_FILE = "db.properties";
 
-    private static final String url;
-    private static final String username;
-    private static final String password;
+    private static final ConnectionPool pool;
 
 
     static {
@@ -23,10 +20,23 @@ public class ConnectionFactory {
             Properties props = new Properties();
             props.load(input);
 
-            url = props.getProperty("db.url");
-            username = props.getProperty("db.username");
-            password = props.getProperty("db.password");
+            Class.forName("org.postgresql.Driver");
+
+            pool = new ConnectionPool(
+                    props.getProperty("db.url"),
+                    props.getProperty("db.username"),
+                    props.getProperty("db.password"),
+                    Integer.parseInt(props.getProperty("db.pool.min-size", "2").trim()),
+                    Integer.parseInt(props.getProperty("db.pool.max-size", "10").trim()),
+                    Long.parseLong(props.getProperty("db.pool.idle-timeout-ms", "300000").trim()),
+                    Long.parseLong(props.getProperty("db.pool.acquire-timeout-ms", "5000").trim()),
+                    props.getProperty("db.pool.validation-query"),
+                    Integer.parseInt(props.getProperty("db.pool.statement-cache-size", "64").trim()));
+
+            Runtime.getRuntime().addShutdownHook(new Thread(pool::close, "db-pool-shutdown"));
 
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("PostgreSQL Driver not found", e);
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -36,11 +46,7 @@ public class ConnectionFactory {
 
     public static Connection getConnection() {
         try {
-            Class.forName("org.postgresql.Driver");
-            return DriverManager.getConnection(url, username, password);
-
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("PostgreSQL Driver not found", e);
+            return pool.getConnection();
 
         } catch (SQLException e) {
             e.printStackTrace();
@@ -48,4 +54,8 @@ public class ConnectionFactory {
         }
     }
 
+    public static PoolStats getPoolStats() {
+        return pool.getStats();
+    }
+
 }
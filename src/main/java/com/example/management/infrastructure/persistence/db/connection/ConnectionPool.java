@@ -0,0 +1,285 @@
+package com.example.management.infrastructure.persistence.db.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConnectionPool implements AutoCloseable {
+
+    private static final long VALIDATION_BYPASS_MILLIS = 1000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long acquireTimeoutMillis;
+    private final String validationQuery;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong acquireTimeouts = new AtomicLong();
+    private final AtomicLong totalAcquireNanos = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong closedCount = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String username, String password,
+                          int minSize, int maxSize, long idleTimeoutMillis,
+                          long acquireTimeoutMillis, String validationQuery, int statementCacheSize) {
+        if(minSize < 0 || maxSize < 1 || minSize > maxSize)
+            throw new IllegalArgumentException("Invalid pool size: min="+minSize+", max="+maxSize);
+
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.validationQuery = validationQuery == null || validationQuery.isBlank() ? null : validationQuery;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::maintain, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    public Connection getConnection() throws SQLException {
+        if(closed) throw new SQLException("Connection pool is closed");
+
+        long start = System.nanoTime();
+        try{
+            if(!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)){
+                acquireTimeouts.incrementAndGet();
+                throw new SQLException("Timed out after "+acquireTimeoutMillis+"ms waiting for a db connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a db connection", e);
+        }
+
+        try{
+            PooledConnection pooled = takeIdle();
+            if(pooled == null) pooled = open();
+
+            acquiredCount.incrementAndGet();
+            totalAcquireNanos.addAndGet(System.nanoTime() - start);
+            return pooled.lease();
+
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public PoolStats getStats(){
+        int total = totalConnections.get();
+        int idleCount = idle.size();
+        long acquired = acquiredCount.get();
+        return new PoolStats(
+                total,
+                Math.max(0, total - idleCount),
+                idleCount,
+                permits.getQueueLength(),
+                acquired,
+                acquireTimeouts.get(),
+                acquired == 0 ? 0 : totalAcquireNanos.get() / acquired / 1_000_000.0,
+                createdCount.get(),
+                closedCount.get(),
+                statementCacheHits.get(),
+                statementCacheMisses.get());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledConnection pooled;
+        while((pooled = idle.pollFirst()) != null){
+            discard(pooled);
+        }
+    }
+
+    private PooledConnection takeIdle(){
+        PooledConnection pooled;
+        while((pooled = idle.pollFirst()) != null){
+            if(isUsable(pooled)) return pooled;
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private PooledConnection open() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, username, password);
+        totalConnections.incrementAndGet();
+        createdCount.incrementAndGet();
+        return new PooledConnection(connection);
+    }
+
+    private boolean isUsable(PooledConnection pooled){
+        if(System.currentTimeMillis() - pooled.lastUsed < VALIDATION_BYPASS_MILLIS) return true;
+
+        try{
+            if(validationQuery == null) return pooled.connection.isValid((int) Math.max(1, acquireTimeoutMillis / 1000));
+
+            try(Statement statement = pooled.connection.createStatement()){
+                statement.execute(validationQuery);
+                return true;
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pooled){
+        try{
+            if(closed || pooled.connection.isClosed()){
+                discard(pooled);
+            } else {
+                pooled.statements.releaseAll();
+                if(!pooled.connection.getAutoCommit()){
+                    pooled.connection.rollback();
+                    pooled.connection.setAutoCommit(true);
+                }
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            }
+        } catch (SQLException e) {
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(PooledConnection pooled){
+        totalConnections.decrementAndGet();
+        closedCount.incrementAndGet();
+        pooled.statements.closeAll();
+        try{
+            pooled.connection.close();
+        } catch (SQLException e) {
+            System.out.println("Error closing pooled db connection");
+        }
+    }
+
+    private void maintain(){
+        long now = System.currentTimeMillis();
+        List<PooledConnection> expired = new ArrayList<>();
+        Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+        while(oldestFirst.hasNext() && totalConnections.get() - expired.size() > minSize){
+            PooledConnection pooled = oldestFirst.next();
+            if(now - pooled.lastUsed >= idleTimeoutMillis && idle.removeLastOccurrence(pooled)){
+                expired.add(pooled);
+            }
+        }
+        expired.forEach(this::discard);
+
+        while(!closed && totalConnections.get() < minSize && permits.tryAcquire()){
+            try{
+                PooledConnection pooled = open();
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.offerLast(pooled);
+            } catch (SQLException e) {
+                System.out.println("Error opening db connection for the pool");
+                break;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private final class PooledConnection {
+
+        private final Connection connection;
+        private final StatementCache statements;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private PooledConnection(Connection connection){
+            this.connection = connection;
+            this.statements = new StatementCache(connection, statementCacheSize, statementCacheHits, statementCacheMisses);
+        }
+
+        private Connection lease(){
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    private final class LeaseHandler implements InvocationHandler {
+
+        private final PooledConnection pooled;
+        private volatile boolean returned;
+
+        private LeaseHandler(PooledConnection pooled){
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if(!returned){
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || pooled.connection.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled" + pooled.connection;
+                }
+            }
+
+            if(returned) throw new SQLException("Connection already returned to the pool");
+            if(method.getName().equals("prepareStatement") && args.length == 1){
+                return pooled.statements.prepare((String) args[0]);
+            }
+            if(method.getName().equals("prepareStatement") && args.length == 2 && args[1] instanceof Integer autoGeneratedKeys){
+                return pooled.statements.prepare((String) args[0], autoGeneratedKeys);
+            }
+            try{
+                return method.invoke(pooled.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.management.infrastructure.persistence.db.connection;
+
+public record PoolStats(
+        int totalConnections,
+        int activeConnections,
+        int idleConnections,
+        int waitingThreads,
+        long acquiredCount,
+        long acquireTimeouts,
+        double averageAcquireMillis,
+        long createdConnections,
+        long closedConnections,
+        long statementCacheHits,
+        long statementCacheMisses
+) {}
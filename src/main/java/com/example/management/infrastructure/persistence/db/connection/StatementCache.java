@@ -0,0 +1,166 @@
+package com.example.management.infrastructure.persistence.db.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+class StatementCache {
+
+    private record StatementKey(String sql, int autoGeneratedKeys) {}
+
+    private final Connection connection;
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final LinkedHashMap<StatementKey, CachedStatement> statements;
+
+    StatementCache(Connection connection, int maxSize, AtomicLong hits, AtomicLong misses){
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest) {
+                if(size() <= StatementCache.this.maxSize) return false;
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    PreparedStatement prepare(String sql) throws SQLException {
+        return prepare(sql, Statement.NO_GENERATED_KEYS);
+    }
+
+    PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        if(maxSize <= 0) return prepareUncached(sql, autoGeneratedKeys);
+
+        StatementKey key = new StatementKey(sql, autoGeneratedKeys);
+        CachedStatement cached = statements.get(key);
+        if(cached != null && !cached.inUse){
+            hits.incrementAndGet();
+            return cached.lease();
+        }
+
+        misses.incrementAndGet();
+        if(cached != null) return prepareUncached(sql, autoGeneratedKeys);
+
+        cached = new CachedStatement(prepareUncached(sql, autoGeneratedKeys));
+        statements.put(key, cached);
+        return cached.lease();
+    }
+
+    private PreparedStatement prepareUncached(String sql, int autoGeneratedKeys) throws SQLException {
+        if(autoGeneratedKeys == Statement.NO_GENERATED_KEYS) return connection.prepareStatement(sql);
+        return connection.prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    int size(){
+        return statements.size();
+    }
+
+    void releaseAll() throws SQLException {
+        for(CachedStatement cached : statements.values()){
+            if(cached.inUse) cached.giveBack();
+        }
+    }
+
+    void closeAll(){
+        statements.values().forEach(CachedStatement::evict);
+        statements.clear();
+    }
+
+    private static final class CachedStatement {
+
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+        private LeaseHandler lease;
+
+        private CachedStatement(PreparedStatement statement){
+            this.statement = statement;
+        }
+
+        private PreparedStatement lease(){
+            inUse = true;
+            lease = new LeaseHandler(this);
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    lease);
+        }
+
+        private void evict(){
+            evicted = true;
+            if(inUse) return;
+            try{
+                statement.close();
+            } catch (SQLException e) {
+                System.out.println("Error closing cached statement");
+            }
+        }
+
+        private void giveBack() throws SQLException {
+            inUse = false;
+            lease.returned = true;
+            if(evicted){
+                statement.close();
+                return;
+            }
+            ResultSet rs = statement.getResultSet();
+            if(rs != null) rs.close();
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+        }
+    }
+
+    private static final class LeaseHandler implements InvocationHandler {
+
+        private final CachedStatement cached;
+        private boolean returned;
+
+        private LeaseHandler(CachedStatement cached){
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if(!returned) cached.giveBack();
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || cached.statement.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Cached" + cached.statement;
+                }
+            }
+
+            if(returned) throw new SQLException("Statement already closed");
+            try{
+                return method.invoke(cached.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
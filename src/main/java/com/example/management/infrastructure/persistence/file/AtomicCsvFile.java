@@ -0,0 +1,105 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Objects;
+
+class AtomicCsvFile {
+
+    interface Loader {
+        void load() throws IOException;
+    }
+
+    private final Path path;
+    private final Path tempPath;
+    private final Path lockPath;
+    private final String header;
+    private long writtenVersion = -1;
+    private Object writtenKey;
+    private long supersededAfter = -1;
+    private long supersededBefore = -1;
+
+    AtomicCsvFile(Path path, String header) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.lockPath = path.resolveSibling(path.getFileName() + ".lock");
+        this.header = header;
+    }
+
+    synchronized void write(long version, Collection<String> lines, boolean force) throws IOException {
+        if(version <= writtenVersion) return;
+
+        try(FileChannel lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)){
+            FileLock lock = lockChannel.lock();
+            try{
+                // The lock only serializes writers: a file replaced since it was last loaded or written here
+                // would be overwritten with a stale snapshot, so fail and leave it to the next reload
+                if(!Objects.equals(currentKey(), writtenKey)){
+                    throw new IOException(path.getFileName()+" changed on disk since it was last loaded");
+                }
+
+                try(FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)){
+
+                    Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+                    writer.write(header + "\n");
+                    for(String line : lines){
+                        writer.write(line + "\n");
+                    }
+                    writer.flush();
+                    if(force) channel.force(true);
+                }
+
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                writtenVersion = version;
+                writtenKey = currentKey();
+
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    synchronized long writtenVersion(){
+        return writtenVersion;
+    }
+
+    synchronized boolean loadIfChanged(long version, Loader loader) throws IOException {
+        Object key = currentKey();
+        if(Objects.equals(key, writtenKey)) return false;
+
+        loader.load();
+        // Versions between the last write and this reload were replaced in memory before reaching disk
+        if(version - 1 > writtenVersion){
+            supersededAfter = writtenVersion;
+            supersededBefore = version;
+            System.out.println("Error trying to save changes made before reloading file: "+path.getFileName());
+        }
+        writtenVersion = Math.max(writtenVersion, version);
+        writtenKey = key;
+        return true;
+    }
+
+    synchronized boolean superseded(long version){
+        return version > supersededAfter && version < supersededBefore;
+    }
+
+    private Object currentKey() throws IOException {
+        if(!Files.exists(path)) return null;
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        if(attributes.fileKey() != null){
+            return attributes.fileKey() + "@" + attributes.lastModifiedTime() + "#" + attributes.size();
+        }
+        return attributes.lastModifiedTime() + "#" + attributes.size();
+    }
+}
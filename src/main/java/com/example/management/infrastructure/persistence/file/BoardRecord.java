@@ -0,0 +1,31 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Board;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+record BoardRecord(long id, String title, LocalDateTime createdAt) {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+
+    static BoardRecord fromCursor(CsvCursor cursor){
+        return new BoardRecord(cursor.longField(0), cursor.string(1), cursor.dateTimeField(2));
+    }
+
+    static BoardRecord fromBoard(Board board){
+        return new BoardRecord(board.getId(), board.getTitle(), board.getCreatedAt());
+    }
+
+    String toRow(){
+        return id + ";" + title + ";" + createdAt.format(DATE_TIME_FORMATTER);
+    }
+
+    Board toBoard(){
+        Board board = new Board();
+        board.setId(id);
+        board.setTitle(title);
+        board.setCreatedAt(createdAt);
+        return board;
+    }
+}
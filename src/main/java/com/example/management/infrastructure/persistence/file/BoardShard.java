@@ -0,0 +1,248 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+class BoardShard {
+
+    private static final String COLUMNS_HEADER = "ID;BOARD_ID;TYPE";
+    private static final String TASKS_HEADER = "ID;TITLE;DESCRIPTION;DUE_DATE;BLOCKED;CREATED_AT;COLUMN_ID";
+
+    private final Path directory;
+    private final Path columnsPath;
+    private final Path tasksPath;
+    private final NavigableMap<Long, ColumnRecord> columns = new TreeMap<>();
+    private final NavigableMap<Long, TaskRecord> tasks = new TreeMap<>();
+    private final SecondaryIndex<Long> taskIdsByColumn = new SecondaryIndex<>();
+    private final SecondaryIndex<String> taskIdsByTitle = new SecondaryIndex<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicCsvFile columnsFile;
+    private final AtomicCsvFile tasksFile;
+    private final GroupCommitWriter columnsWriter;
+    private final GroupCommitWriter tasksWriter;
+    private long version;
+    private boolean deleted;
+
+    BoardShard(Path directory){
+        this.directory = directory;
+        this.columnsPath = directory.resolve("columns.csv");
+        this.tasksPath = directory.resolve("tasks.csv");
+        this.columnsFile = new AtomicCsvFile(columnsPath, COLUMNS_HEADER);
+        this.tasksFile = new AtomicCsvFile(tasksPath, TASKS_HEADER);
+        this.columnsWriter = new GroupCommitWriter(columnsFile, this::columnsSnapshot);
+        this.tasksWriter = new GroupCommitWriter(tasksFile, this::tasksSnapshot);
+        try{
+            if(Files.exists(columnsPath)) columnsFile.loadIfChanged(version, this::loadColumns);
+            if(Files.exists(tasksPath)) tasksFile.loadIfChanged(version, this::loadTasks);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to load board shard: "+directory);
+        }
+    }
+
+    private void loadColumns() throws IOException {
+        try(CsvCursor cursor = CsvCursor.open(columnsPath)){
+            while(cursor.next()){
+                ColumnRecord record = ColumnRecord.fromCursor(cursor);
+                columns.put(record.id(), record);
+            }
+        }
+    }
+
+    private void loadTasks() throws IOException {
+        try(CsvCursor cursor = CsvCursor.open(tasksPath)){
+            while(cursor.next()){
+                putTask(TaskRecord.fromCursor(cursor));
+            }
+        }
+    }
+
+    private static String fold(String title){
+        return title.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    private void putTask(TaskRecord record){
+        TaskRecord previous = tasks.put(record.id(), record);
+        if(previous != null) unindex(previous);
+        taskIdsByColumn.add(record.columnId(), record.id());
+        taskIdsByTitle.add(fold(record.title()), record.id());
+    }
+
+    private boolean removeTask(long id){
+        TaskRecord previous = tasks.remove(id);
+        if(previous != null) unindex(previous);
+        return previous != null;
+    }
+
+    private void unindex(TaskRecord record){
+        taskIdsByColumn.remove(record.columnId(), record.id());
+        taskIdsByTitle.remove(fold(record.title()), record.id());
+    }
+
+    private <T> T read(Supplier<T> query){
+        lock.readLock().lock();
+        try{
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void writeColumns(BooleanSupplier mutation) throws IOException {
+        long writeVersion;
+
+        lock.writeLock().lock();
+        try{
+            if(deleted || !mutation.getAsBoolean()) return;
+            writeVersion = ++version;
+            Files.createDirectories(directory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        columnsWriter.submit(writeVersion);
+    }
+
+    private GroupCommitWriter.Snapshot columnsSnapshot(){
+        long snapshotVersion;
+        List<ColumnRecord> records;
+
+        lock.readLock().lock();
+        try{
+            if(deleted) return null;
+            snapshotVersion = version;
+            records = List.copyOf(columns.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new GroupCommitWriter.Snapshot(snapshotVersion, records.stream().map(ColumnRecord::toRow).toList());
+    }
+
+    private void writeTasks(BooleanSupplier mutation) throws IOException {
+        long writeVersion;
+
+        lock.writeLock().lock();
+        try{
+            if(deleted || !mutation.getAsBoolean()) return;
+            writeVersion = ++version;
+            Files.createDirectories(directory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        tasksWriter.submit(writeVersion);
+    }
+
+    private GroupCommitWriter.Snapshot tasksSnapshot(){
+        long snapshotVersion;
+        List<TaskRecord> records;
+
+        lock.readLock().lock();
+        try{
+            if(deleted) return null;
+            snapshotVersion = version;
+            records = List.copyOf(tasks.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new GroupCommitWriter.Snapshot(snapshotVersion, records.stream().map(TaskRecord::toRow).toList());
+    }
+
+    void saveColumn(ColumnRecord record) throws IOException {
+        writeColumns(() -> {
+            columns.put(record.id(), record);
+            return true;
+        });
+    }
+
+    void saveColumns(List<ColumnRecord> records) throws IOException {
+        writeColumns(() -> {
+            records.forEach(record -> columns.put(record.id(), record));
+            return !records.isEmpty();
+        });
+    }
+
+    Optional<ColumnRecord> findColumn(long id){
+        return read(() -> Optional.ofNullable(columns.get(id)));
+    }
+
+    List<ColumnRecord> findColumns(){
+        return read(() -> List.copyOf(columns.values()));
+    }
+
+    void saveTask(TaskRecord record) throws IOException {
+        writeTasks(() -> {
+            putTask(record);
+            return true;
+        });
+    }
+
+    void deleteTasks(Collection<Long> ids) throws IOException {
+        writeTasks(() -> {
+            boolean changed = false;
+            for(long id : ids){
+                changed |= removeTask(id);
+            }
+            return changed;
+        });
+    }
+
+    Optional<TaskRecord> findTask(long id){
+        return read(() -> Optional.ofNullable(tasks.get(id)));
+    }
+
+    List<TaskRecord> findTasks(){
+        return read(() -> List.copyOf(tasks.values()));
+    }
+
+    List<TaskRecord> findTasksByColumnId(long columnId){
+        return read(() -> taskIdsByColumn.get(columnId).stream().map(tasks::get).toList());
+    }
+
+    boolean existsByTitle(String title){
+        return read(() -> !taskIdsByTitle.get(fold(title)).isEmpty());
+    }
+
+    boolean existsByTitleAndIdNot(String title, long id){
+        return read(() -> taskIdsByTitle.containsOtherThan(fold(title), id));
+    }
+
+    void delete() throws IOException {
+        // Discard before taking the lock: a flush in progress needs the read lock to finish its snapshot
+        columnsWriter.discardPending();
+        tasksWriter.discardPending();
+
+        lock.writeLock().lock();
+        try{
+            deleted = true;
+            columns.clear();
+            tasks.clear();
+            taskIdsByColumn.clear();
+            taskIdsByTitle.clear();
+
+            if(!Files.exists(directory)) return;
+            try(Stream<Path> paths = Files.walk(directory)){
+                for(Path path : paths.sorted(Comparator.reverseOrder()).toList()){
+                    Files.deleteIfExists(path);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
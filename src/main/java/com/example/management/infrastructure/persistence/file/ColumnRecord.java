@@ -0,0 +1,19 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Column;
+import com.example.management.core.enums.ColumnType;
+
+record ColumnRecord(long id, long boardId, ColumnType type) {
+
+    static ColumnRecord fromCursor(CsvCursor cursor){
+        return new ColumnRecord(cursor.longField(0), cursor.longField(1), ColumnType.valueOf(cursor.string(2)));
+    }
+
+    static ColumnRecord fromColumn(Column column){
+        return new ColumnRecord(column.getId(), column.getBoard().getId(), column.getType());
+    }
+
+    String toRow(){
+        return id + ";" + boardId + ";" + type.name();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.time.LocalDateTime;
+
+public record CompactionStats(
+        String fileName,
+        long bytesBefore,
+        long bytesAfter,
+        long bytesReclaimed,
+        int liveRecords,
+        long durationMillis,
+        LocalDateTime finishedAt) {}
@@ -0,0 +1,206 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+public class CsvCursor implements AutoCloseable {
+
+    private static final char SEPARATOR = ';';
+
+    private final Reader reader;
+    private char[] buffer;
+    private int bufferPosition;
+    private int bufferLimit;
+
+    private char[] line = new char[256];
+    private int lineLength;
+
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+
+    private CsvCursor(Reader reader) {
+        this.reader = reader;
+    }
+
+    public static CsvCursor open(Path path) throws IOException {
+        CsvCursor cursor = new CsvCursor(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+        cursor.buffer = new char[8192];
+        cursor.readLine();
+        return cursor;
+    }
+
+    public static CsvCursor ofRow(String row){
+        CsvCursor cursor = new CsvCursor(null);
+        cursor.line = row.toCharArray();
+        cursor.lineLength = cursor.line.length;
+        cursor.splitFields();
+        return cursor;
+    }
+
+    public boolean next() throws IOException {
+        if(reader == null) return false;
+        while (readLine()){
+            if(lineLength > 0){
+                splitFields();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int fieldCount(){
+        return fieldCount;
+    }
+
+    public CharSequence field(int index){
+        return CharBuffer.wrap(line, fieldStarts[index], fieldLength(index));
+    }
+
+    public String string(int index){
+        return new String(line, fieldStarts[index], fieldLength(index));
+    }
+
+    public long longField(int index){
+        int position = fieldStarts[index];
+        int end = fieldEnds[index];
+        if(position == end) throw new NumberFormatException("Empty field at index " + index);
+
+        boolean negative = line[position] == '-';
+        if(negative || line[position] == '+') position++;
+
+        long value = 0;
+        for(; position < end; position++){
+            int digit = line[position] - '0';
+            if(digit < 0 || digit > 9) throw new NumberFormatException("Invalid number: " + string(index));
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    public boolean booleanField(int index){
+        return fieldLength(index) == 4
+                && Character.toLowerCase(line[fieldStarts[index]]) == 't'
+                && Character.toLowerCase(line[fieldStarts[index] + 1]) == 'r'
+                && Character.toLowerCase(line[fieldStarts[index] + 2]) == 'u'
+                && Character.toLowerCase(line[fieldStarts[index] + 3]) == 'e';
+    }
+
+    public LocalDate dateField(int index){
+        int start = fieldStarts[index];
+        if(fieldLength(index) != 10 || line[start + 4] != '-' || line[start + 7] != '-'){
+            return LocalDate.parse(field(index));
+        }
+        return LocalDate.of(digits(start, 4), digits(start + 5, 2), digits(start + 8, 2));
+    }
+
+    public LocalDateTime dateTimeField(int index){
+        int start = fieldStarts[index];
+        int length = fieldLength(index);
+        if(length < 16 || line[start + 4] != '-' || line[start + 7] != '-'
+                || line[start + 10] != 'T' || line[start + 13] != ':'){
+            return LocalDateTime.parse(field(index));
+        }
+
+        int second = 0;
+        int nano = 0;
+        if(length > 16){
+            if(length < 19 || line[start + 16] != ':') return LocalDateTime.parse(field(index));
+            second = digits(start + 17, 2);
+
+            if(length > 19){
+                int fractionDigits = length - 20;
+                if(line[start + 19] != '.' || fractionDigits < 1 || fractionDigits > 9){
+                    return LocalDateTime.parse(field(index));
+                }
+                nano = digits(start + 20, fractionDigits);
+                for(int i = fractionDigits; i < 9; i++) nano *= 10;
+            }
+        }
+
+        return LocalDateTime.of(
+                digits(start, 4), digits(start + 5, 2), digits(start + 8, 2),
+                digits(start + 11, 2), digits(start + 14, 2), second, nano);
+    }
+
+    private int digits(int position, int count){
+        int value = 0;
+        for(int i = position; i < position + count; i++){
+            int digit = line[i] - '0';
+            if(digit < 0 || digit > 9) throw new NumberFormatException("Invalid digit in: " + new String(line, 0, lineLength));
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private int fieldLength(int index){
+        return fieldEnds[index] - fieldStarts[index];
+    }
+
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean readAny = false;
+
+        while (true){
+            if(bufferPosition == bufferLimit){
+                bufferLimit = reader.read(buffer);
+                bufferPosition = 0;
+                if(bufferLimit <= 0){
+                    bufferLimit = 0;
+                    return readAny;
+                }
+            }
+            readAny = true;
+
+            int start = bufferPosition;
+            while (bufferPosition < bufferLimit && buffer[bufferPosition] != '\n'){
+                bufferPosition++;
+            }
+            append(start, bufferPosition);
+
+            if(bufferPosition < bufferLimit){
+                bufferPosition++;
+                if(lineLength > 0 && line[lineLength - 1] == '\r') lineLength--;
+                return true;
+            }
+        }
+    }
+
+    private void append(int from, int to){
+        int count = to - from;
+        if(lineLength + count > line.length){
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + count));
+        }
+        System.arraycopy(buffer, from, line, lineLength, count);
+        lineLength += count;
+    }
+
+    private void splitFields(){
+        fieldCount = 0;
+        int start = 0;
+        for(int i = 0; i <= lineLength; i++){
+            if(i == lineLength || line[i] == SEPARATOR){
+                if(fieldCount == fieldStarts.length){
+                    fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+                    fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+                }
+                fieldStarts[fieldCount] = start;
+                fieldEnds[fieldCount] = i;
+                fieldCount++;
+                start = i + 1;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if(reader != null) reader.close();
+    }
+}
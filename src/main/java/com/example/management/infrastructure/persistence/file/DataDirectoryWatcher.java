@@ -0,0 +1,136 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+public class DataDirectoryWatcher implements AutoCloseable {
+
+    private static final Path DATA_DIRECTORY = Paths.get("data");
+
+    private final Path directory;
+    private final Map<Path, BooleanSupplier> reloaders = new ConcurrentHashMap<>();
+    private final Map<String, ReloadStats> lastReloadStats = new ConcurrentHashMap<>();
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong totalReloadMillis = new AtomicLong();
+    private WatchService watchService;
+    private Thread thread;
+
+    public DataDirectoryWatcher(Path directory){
+        this.directory = directory;
+        try{
+            Files.createDirectories(directory);
+            this.watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to watch directory: "+directory);
+        }
+    }
+
+    public static DataDirectoryWatcher forRepositories(InFileBoardRepository boardRepository,
+                                                       InFileColumnRepository columnRepository,
+                                                       InFileTaskRepository taskRepository){
+        DataDirectoryWatcher watcher = new DataDirectoryWatcher(DATA_DIRECTORY);
+        watcher.watch("boards.csv", boardRepository::reloadIfChanged);
+        watcher.watch("columns.csv", () -> {
+            boolean reloaded = columnRepository.reloadIfChanged();
+            if(reloaded) taskRepository.refreshIndexes();
+            return reloaded;
+        });
+        watcher.watch("tasks.csv", taskRepository::reloadIfChanged);
+        watcher.start();
+        return watcher;
+    }
+
+    public void watch(String fileName, BooleanSupplier reloader){
+        reloaders.put(Paths.get(fileName), reloader);
+    }
+
+    public synchronized void start(){
+        if(watchService == null || thread != null) return;
+
+        thread = new Thread(this::run, "data-directory-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run(){
+        try{
+            while(true){
+                WatchKey key = watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+
+                for(WatchEvent<?> event : key.pollEvents()){
+                    if(event.kind() == StandardWatchEventKinds.OVERFLOW){
+                        changed.addAll(reloaders.keySet());
+                    } else {
+                        Path fileName = (Path) event.context();
+                        if(reloaders.containsKey(fileName)) changed.add(fileName);
+                    }
+                }
+                key.reset();
+
+                changed.forEach(this::reload);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private void reload(Path fileName){
+        long start = System.currentTimeMillis();
+        if(!reloaders.get(fileName).getAsBoolean()) return;
+        long finish = System.currentTimeMillis();
+
+        long lagMillis = 0;
+        try{
+            lagMillis = Math.max(0, finish - Files.getLastModifiedTime(directory.resolve(fileName)).toMillis());
+        } catch (IOException e) {
+            System.out.println("Error trying to read modification time of file: "+fileName);
+        }
+
+        ReloadStats stats = new ReloadStats(fileName.toString(), finish - start, lagMillis, LocalDateTime.now());
+        lastReloadStats.put(stats.fileName(), stats);
+        reloadCount.incrementAndGet();
+        totalReloadMillis.addAndGet(stats.durationMillis());
+    }
+
+    public Map<String, ReloadStats> getLastReloadStats() {
+        return Map.copyOf(lastReloadStats);
+    }
+
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    public double getAverageReloadMillis() {
+        long count = reloadCount.get();
+        return count == 0 ? 0 : (double) totalReloadMillis.get() / count;
+    }
+
+    @Override
+    public void close() {
+        if(watchService == null) return;
+        try{
+            watchService.close();
+        } catch (IOException e) {
+            System.out.println("Error trying to stop watching directory: "+directory);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.management.infrastructure.persistence.file;
+
+public enum DurabilityPolicy {
+    EVERY_WRITE,
+    INTERVAL,
+    OS
+}
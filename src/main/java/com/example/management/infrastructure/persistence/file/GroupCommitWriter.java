@@ -0,0 +1,115 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+class GroupCommitWriter {
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "file-group-commit");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Set<GroupCommitWriter> INTERVAL_WRITERS = Collections.newSetFromMap(new WeakHashMap<>());
+
+    static {
+        FLUSHER.scheduleWithFixedDelay(GroupCommitWriter::flushIntervalWriters,
+                StorageConfig.getIntervalMillis(), StorageConfig.getIntervalMillis(), TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(GroupCommitWriter::flushIntervalWriters));
+    }
+
+    record Snapshot(long version, Collection<String> lines) {}
+
+    private final AtomicCsvFile file;
+    private final Supplier<Snapshot> source;
+    private final DurabilityPolicy policy;
+    private final Object flushMutex = new Object();
+    private long pendingVersion = -1;
+    private boolean discarded;
+
+    GroupCommitWriter(AtomicCsvFile file, Supplier<Snapshot> source){
+        this(file, source, StorageConfig.getDurability());
+    }
+
+    GroupCommitWriter(AtomicCsvFile file, Supplier<Snapshot> source, DurabilityPolicy policy){
+        this.file = file;
+        this.source = source;
+        this.policy = policy;
+
+        if(policy == DurabilityPolicy.INTERVAL){
+            synchronized(INTERVAL_WRITERS){
+                INTERVAL_WRITERS.add(this);
+            }
+        }
+    }
+
+    private static void flushIntervalWriters(){
+        List<GroupCommitWriter> writers;
+        synchronized(INTERVAL_WRITERS){
+            writers = List.copyOf(INTERVAL_WRITERS);
+        }
+        writers.forEach(GroupCommitWriter::flushPending);
+    }
+
+    // Only the version is queued: the rows are copied from the source when the flush runs,
+    // so submits that pile up behind one flush share a single snapshot
+    void submit(long version) throws IOException {
+        synchronized(this){
+            pendingVersion = Math.max(pendingVersion, version);
+        }
+
+        switch(policy){
+            case EVERY_WRITE -> commit(version, true);
+            case OS -> commit(version, false);
+            case INTERVAL -> {}
+        }
+    }
+
+    private void commit(long version, boolean force) throws IOException {
+        synchronized(flushMutex){
+            if(file.writtenVersion() < version) writePending(force);
+            if(file.superseded(version)){
+                throw new IOException("Write of version "+version+" was rejected because the file was reloaded from disk first");
+            }
+            if(file.writtenVersion() < version){
+                throw new IOException("Pending write was discarded before version "+version+" reached disk");
+            }
+        }
+    }
+
+    private void flushPending(){
+        try{
+            synchronized(flushMutex){
+                writePending(true);
+            }
+        } catch (IOException e) {
+            System.out.println("Error trying to flush pending writes: "+e.getMessage());
+        }
+    }
+
+    void discardPending(){
+        synchronized(flushMutex){
+            synchronized(this){
+                discarded = true;
+            }
+        }
+    }
+
+    private void writePending(boolean force) throws IOException {
+        long writtenVersion = file.writtenVersion();
+        synchronized(this){
+            if(discarded || pendingVersion <= writtenVersion) return;
+        }
+
+        Snapshot snapshot = source.get();
+        if(snapshot != null) file.write(snapshot.version(), snapshot.lines(), force);
+    }
+}
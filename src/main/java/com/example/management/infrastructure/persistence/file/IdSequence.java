@@ -0,0 +1,56 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class IdSequence {
+
+    private static final int DEFAULT_BLOCK_SIZE = 32;
+
+    private final Path path;
+    private final int blockSize;
+    private long lastId;
+    private long highWaterMark;
+
+    public IdSequence(Path dataFile, long currentMaxId) throws IOException {
+        this(dataFile, currentMaxId, DEFAULT_BLOCK_SIZE);
+    }
+
+    public IdSequence(Path dataFile, long currentMaxId, int blockSize) throws IOException {
+        this.path = dataFile.resolveSibling(dataFile.getFileName() + ".seq");
+        this.blockSize = blockSize;
+
+        long persisted = 0;
+        if(Files.exists(path)){
+            String content = Files.readString(path, StandardCharsets.UTF_8).trim();
+            if(!content.isEmpty()) persisted = Long.parseLong(content);
+        }
+
+        this.highWaterMark = Math.max(persisted, currentMaxId);
+        this.lastId = highWaterMark;
+    }
+
+    public synchronized long next() throws IOException {
+        if(lastId >= highWaterMark){
+            persist(lastId + blockSize);
+        }
+        return ++lastId;
+    }
+
+    public synchronized void advanceTo(long currentMaxId){
+        if(currentMaxId > lastId) lastId = currentMaxId;
+    }
+
+    private void persist(long newHighWaterMark) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(temp, newHighWaterMark + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        highWaterMark = newHighWaterMark;
+    }
+}
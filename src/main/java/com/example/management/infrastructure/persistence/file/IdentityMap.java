@@ -0,0 +1,23 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Board;
+import com.example.management.core.domain.Column;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+class IdentityMap {
+
+    private final Map<Long, Board> boards = new HashMap<>();
+    private final Map<Long, Column> columns = new HashMap<>();
+
+    Board board(long id, LongFunction<Optional<Board>> loader){
+        return boards.computeIfAbsent(id, key -> loader.apply(key).orElseThrow());
+    }
+
+    Column column(long id, LongFunction<Optional<Column>> loader){
+        return columns.computeIfAbsent(id, key -> loader.apply(key).orElseThrow());
+    }
+}
@@ -3,68 +3,123 @@ package com.example.management.infrastructure.persistence.file;
 import com.example.management.core.domain.Board;
 import com.example.management.infrastructure.persistence.BoardRepository;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public class InFileBoardRepository implements BoardRepository {
 
     private static final Path FILE_PATH = Paths.get("data", "boards.csv");
     private static final String HEADER = "ID;TITLE;CREATED_AT";
-    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_DATE_TIME;
 
+    private final NavigableMap<Long, BoardRecord> cache = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicCsvFile file = new AtomicCsvFile(FILE_PATH, HEADER);
+    private final GroupCommitWriter writer = new GroupCommitWriter(file, this::snapshot);
+    private long version;
+    private IdSequence idSequence;
     private final List<EntityDeletionListener> listeners = new ArrayList<>();
 
     public InFileBoardRepository(){
         try{
             FileUtils.initFile(FILE_PATH, HEADER);
+            file.loadIfChanged(version, this::load);
+            idSequence = new IdSequence(FILE_PATH, cache.isEmpty() ? 0 : cache.lastKey());
 
         } catch (IOException e) {
             System.out.println("Error trying to load file: "+FILE_PATH.getFileName());
         }
     }
 
-    public void addListener(EntityDeletionListener listener){
-        this.listeners.add(listener);
+    public boolean reloadIfChanged(){
+        lock.writeLock().lock();
+        try{
+            boolean reloaded = file.loadIfChanged(version + 1, this::load);
+            if(reloaded) version++;
+            if(reloaded && !cache.isEmpty()) idSequence.advanceTo(cache.lastKey());
+            return reloaded;
+
+        } catch (IOException e){
+            System.out.println("Error trying to reload file: "+FILE_PATH.getFileName());
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
-    public Board save(Board board){
+    private void load() throws IOException {
+        cache.clear();
+        try(CsvCursor cursor = CsvCursor.open(FILE_PATH)){
+            while(cursor.next()){
+                BoardRecord record = BoardRecord.fromCursor(cursor);
+                cache.put(record.id(), record);
+            }
+        }
+    }
+
+    private <T> T read(Supplier<T> query){
+        lock.readLock().lock();
+        try{
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(BooleanSupplier mutation) throws IOException {
+        long writeVersion;
+
+        lock.writeLock().lock();
         try{
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
+            if(!mutation.getAsBoolean()) return;
+            writeVersion = ++version;
+        } finally {
+            lock.writeLock().unlock();
+        }
 
-            if(board.getId() == null){
-                board.setId(FileUtils.getNextId(FILE_PATH));
+        writer.submit(writeVersion);
+    }
 
-            } else{
-                rows = rows.stream()
-                        .filter(row -> Long.parseLong(row[0]) != board.getId())
-                        .collect(Collectors.toList());
-            }
+    private GroupCommitWriter.Snapshot snapshot(){
+        long snapshotVersion;
+        List<BoardRecord> records;
 
-            String[] newRow = {
-                    String.valueOf(board.getId()),
-                    board.getTitle(),
-                    board.getCreatedAt().format(dateTimeFormatter)
-            };
+        lock.readLock().lock();
+        try{
+            snapshotVersion = version;
+            records = List.copyOf(cache.values());
+        } finally {
+            lock.readLock().unlock();
+        }
 
-            rows.add(newRow);
+        return new GroupCommitWriter.Snapshot(snapshotVersion, records.stream().map(BoardRecord::toRow).toList());
+    }
 
-            try(BufferedWriter bw = Files.newBufferedWriter(FILE_PATH)){
-                bw.write(HEADER + "\n");
+    public void addListener(EntityDeletionListener listener){
+        this.listeners.add(listener);
+    }
 
-                for(String[] row : rows){
-                    bw.write(String.join(";", row) + "\n");
-                }
+    public Board save(Board board){
+        try{
+            if(board.getId() == null){
+                board.setId(idSequence.next());
             }
 
+            BoardRecord record = BoardRecord.fromBoard(board);
+            write(() -> {
+                cache.put(record.id(), record);
+                return true;
+            });
+
         } catch (IOException e){
             System.out.println("Error trying to save board in file: "+FILE_PATH.getFileName());
         }
@@ -72,83 +127,44 @@ public class InFileBoardRepository implements BoardRepository {
     }
 
     public boolean existsById(long id){
-        try{
-            return FileUtils.readAllRows(FILE_PATH).stream()
-                    .anyMatch(row -> Long.parseLong(row[0]) == id );
-
-        } catch (IOException e) {
-            System.out.println("Error trying to find board by ID in file: "+ FILE_PATH.getFileName());
-            return false;
-        }
+        return read(() -> cache.containsKey(id));
     }
 
     public boolean existsByTitle(String title){
-        try{
-            return FileUtils.readAllRows(FILE_PATH).stream()
-                    .anyMatch(row -> row[1].equalsIgnoreCase(title));
-        } catch (IOException e) {
-            System.out.println("Error trying to find board by title in file: "+FILE_PATH.getFileName());
-            return false;
-        }
+        return read(() -> cache.values().stream()
+                .anyMatch(record -> record.title().equalsIgnoreCase(title)));
     }
 
     public boolean existsByTitleAndIdNot(String title, long id){
-        try{
-            return FileUtils.readAllRows(FILE_PATH).stream()
-                    .anyMatch(row -> row[1].equalsIgnoreCase(title) && Long.parseLong(row[0]) != id);
-
-        } catch (IOException e) {
-            System.out.println("Error trying to find board by title and id in file: "+FILE_PATH.getFileName());
-            return false;
-        }
+        return read(() -> cache.values().stream()
+                .anyMatch(record -> record.title().equalsIgnoreCase(title) && record.id() != id));
     }
 
     public List<Board> getAll(){
-        try{
-            return FileUtils.readAllRows(FILE_PATH).stream()
-                    .sorted(Comparator.comparingLong(row -> Long.parseLong(row[0])))
-                    .map(row -> new Board(Long.parseLong(row[0]), row[1]))
-                    .toList();
+        return read(() -> cache.values().stream()
+                .map(BoardRecord::toBoard)
+                .toList());
+    }
 
-        } catch (IOException e){
-            System.out.println("Error trying to get all boards in file: "+FILE_PATH.getFileName());
-            return List.of();
-        }
+    public List<Board> getAll(long afterId, int limit){
+        return read(() -> cache.tailMap(afterId, false).values().stream()
+                .limit(limit)
+                .map(BoardRecord::toBoard)
+                .toList());
     }
 
     public Optional<Board> findById(long id) {
-        try{
-            return FileUtils.readAllRows(FILE_PATH).stream()
-                    .filter(row -> Long.parseLong(row[0]) == id )
-                    .map(row -> new Board(Long.parseLong(row[0]), row[1]))
-                    .findFirst();
-
-        } catch (IOException e){
-            System.out.println("Error trying to find board by title and id in file: "+FILE_PATH.getFileName());
-            return Optional.empty();
-        }
+        return read(() -> Optional.ofNullable(cache.get(id)).map(BoardRecord::toBoard));
     }
 
     public void deleteById(long id){
         try{
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
-
             listeners.forEach(l -> l.onEntityDeleted(id));
 
-            List<String> updatedLines = rows.stream()
-                    .filter(row -> Long.parseLong(row[0]) != id)
-                    .map(row -> String.join(";", row))
-                    .toList();
-
-            try(BufferedWriter bw = Files.newBufferedWriter(FILE_PATH)){
-                bw.write(HEADER + "\n");
-                for(String line : updatedLines){
-                    bw.write(line + "\n");
-                }
-            }
+            write(() -> cache.remove(id) != null);
 
         }catch (IOException e){
-            System.out.println("Error trying to find board by title and id in file: "+FILE_PATH.getFileName());
+            System.out.println("Error trying to delete board by id in file: "+FILE_PATH.getFileName());
         }
     }
 }
@@ -0,0 +1,54 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardSummary;
+import com.example.management.core.enums.ColumnType;
+import com.example.management.infrastructure.persistence.BoardSummaryRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public class InFileBoardSummaryRepository implements BoardSummaryRepository {
+
+    private final InFileBoardRepository inFileBoardRepository;
+    private final InFileColumnRepository inFileColumnRepository;
+    private final InFileTaskRepository inFileTaskRepository;
+
+    public InFileBoardSummaryRepository(InFileBoardRepository inFileBoardRepository,
+                                        InFileColumnRepository inFileColumnRepository,
+                                        InFileTaskRepository inFileTaskRepository) {
+        this.inFileBoardRepository = inFileBoardRepository;
+        this.inFileColumnRepository = inFileColumnRepository;
+        this.inFileTaskRepository = inFileTaskRepository;
+    }
+
+    @Override
+    public List<BoardSummary> findAllSummaries() {
+        return inFileBoardRepository.getAll().stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public List<BoardSummary> findAllSummaries(long afterId, int limit) {
+        return inFileBoardRepository.getAll(afterId, limit).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public Optional<BoardSummary> findSummaryById(long boardId) {
+        return inFileBoardRepository.findById(boardId).map(this::toSummary);
+    }
+
+    private BoardSummary toSummary(Board board) {
+        int totalTasks = 0;
+        int doneTasks = 0;
+        for (ColumnRecord column : inFileColumnRepository.findColumnRecordsByBoardId(board.getId())) {
+            int taskCount = inFileTaskRepository.countByColumnId(column.id());
+            totalTasks += taskCount;
+            if (column.type() == ColumnType.DONE) doneTasks += taskCount;
+        }
+        return new BoardSummary(board.getId(), board.getTitle(), totalTasks, doneTasks);
+    }
+}
@@ -2,91 +2,195 @@ package com.example.management.infrastructure.persistence.file;
 
 import com.example.management.core.domain.Board;
 import com.example.management.core.domain.Column;
-import com.example.management.core.enums.ColumnType;
 import com.example.management.infrastructure.persistence.ColumnRepository;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public class InFileColumnRepository implements ColumnRepository, EntityDeletionListener {
 
     private static final Path FILE_PATH = Paths.get("data", "columns.csv");
     private static final String HEADER = "ID;BOARD_ID;TYPE";
 
+    private final NavigableMap<Long, ColumnRecord> cache = new TreeMap<>();
+    private final SecondaryIndex<Long> columnIdsByBoard = new SecondaryIndex<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicCsvFile file = new AtomicCsvFile(FILE_PATH, HEADER);
+    private final GroupCommitWriter writer = new GroupCommitWriter(file, this::snapshot);
+    private long version;
+    private IdSequence idSequence;
     private final InFileBoardRepository inFileBoardRepository;
 
     public InFileColumnRepository(InFileBoardRepository inFileBoardRepository) {
         this.inFileBoardRepository = inFileBoardRepository;
         try {
             FileUtils.initFile(FILE_PATH, HEADER);
+            file.loadIfChanged(version, this::load);
+            idSequence = new IdSequence(FILE_PATH, cache.isEmpty() ? 0 : cache.lastKey());
 
         } catch (IOException e) {
             System.out.println("Error trying to load file: " + FILE_PATH.getFileName());
         }
     }
 
-    public void save(Column column) {
+    public boolean reloadIfChanged() {
+        lock.writeLock().lock();
         try {
-            if (column.getId() == null) {
-                column.setId(FileUtils.getNextId(FILE_PATH));
+            boolean reloaded = file.loadIfChanged(version + 1, this::load);
+            if (reloaded) version++;
+            if (reloaded && !cache.isEmpty()) idSequence.advanceTo(cache.lastKey());
+            return reloaded;
+
+        } catch (IOException e) {
+            System.out.println("Error trying to reload file: " + FILE_PATH.getFileName());
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        cache.clear();
+        columnIdsByBoard.clear();
+        try (CsvCursor cursor = CsvCursor.open(FILE_PATH)) {
+            while (cursor.next()) {
+                put(ColumnRecord.fromCursor(cursor));
             }
+        }
+    }
 
-            String line = column.getId() + ";" + column.getBoard().getId() + ";" + column.getType().name();
+    private void put(ColumnRecord record) {
+        ColumnRecord previous = cache.put(record.id(), record);
+        if (previous != null) columnIdsByBoard.remove(previous.boardId(), previous.id());
+        columnIdsByBoard.add(record.boardId(), record.id());
+    }
 
-            try (BufferedWriter bw = Files.newBufferedWriter(FILE_PATH, StandardOpenOption.APPEND)) {
-                bw.write(line + "\n");
+    private void remove(long id) {
+        ColumnRecord previous = cache.remove(id);
+        if (previous != null) columnIdsByBoard.remove(previous.boardId(), previous.id());
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(BooleanSupplier mutation) throws IOException {
+        long writeVersion;
+
+        lock.writeLock().lock();
+        try {
+            if (!mutation.getAsBoolean()) return;
+            writeVersion = ++version;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        writer.submit(writeVersion);
+    }
+
+    private GroupCommitWriter.Snapshot snapshot(){
+        long snapshotVersion;
+        List<ColumnRecord> records;
+
+        lock.readLock().lock();
+        try {
+            snapshotVersion = version;
+            records = List.copyOf(cache.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new GroupCommitWriter.Snapshot(snapshotVersion, records.stream().map(ColumnRecord::toRow).toList());
+    }
+
+    public void save(Column column) {
+        try {
+            if (column.getId() == null) {
+                column.setId(idSequence.next());
             }
 
+            ColumnRecord record = ColumnRecord.fromColumn(column);
+            write(() -> {
+                put(record);
+                return true;
+            });
+
         } catch (IOException e) {
             System.out.println("Error trying to save column in file: " + FILE_PATH.getFileName());
         }
     }
 
-    public Optional<Column> findById(long id) {
+    public void saveAll(List<Column> columns) {
         try {
-            try (BufferedReader br = Files.newBufferedReader(FILE_PATH)) {
-                br.readLine();
-                String line;
-
-                while ((line = br.readLine()) != null) {
-                    String[] parts = line.split(";");
-
-                    if (Long.parseLong(parts[0]) == id) {
-                        Board board = inFileBoardRepository.findById(Long.parseLong(parts[1])).get();
-                        Column column = new Column(Long.parseLong(parts[0]), board, ColumnType.valueOf(parts[2]));
-                        return Optional.of(column);
-                    }
+            List<ColumnRecord> records = new ArrayList<>(columns.size());
+            for (Column column : columns) {
+                if (column.getId() == null) {
+                    column.setId(idSequence.next());
                 }
+                records.add(ColumnRecord.fromColumn(column));
             }
 
+            write(() -> {
+                records.forEach(this::put);
+                return !records.isEmpty();
+            });
+
         } catch (IOException e) {
-            System.out.println("Error trying to find column by ID in file: " + FILE_PATH.getFileName());
+            System.out.println("Error trying to save columns in file: " + FILE_PATH.getFileName());
         }
-        return Optional.empty();
+    }
+
+    public Optional<Column> findById(long id) {
+        return findById(id, new IdentityMap());
+    }
+
+    Optional<Column> findById(long id, IdentityMap identityMap) {
+        return read(() -> Optional.ofNullable(cache.get(id))).map(record -> toColumn(record, identityMap));
     }
 
     public List<Column> findAllByBoardId(long boardId) {
-        try {
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
-            return rows.stream()
-                    .filter(row -> Long.parseLong(row[1]) == boardId)
-                    .map(row -> {
-                        Board board = inFileBoardRepository.findById(Long.parseLong(row[1])).get();
-                        return new Column(Long.parseLong(row[0]), board, ColumnType.valueOf(row[2]));
-                    })
-                    .toList();
+        IdentityMap identityMap = new IdentityMap();
+        return read(() -> columnIdsByBoard.get(boardId).stream()
+                .map(cache::get)
+                .toList()).stream()
+                .map(record -> toColumn(record, identityMap))
+                .toList();
+    }
 
-        } catch (IOException e) {
-            System.out.println("Error trying to find columns by board ID in file: " + FILE_PATH.getFileName());
-        }
-        return List.of();
+    List<Long> findColumnIdsByBoardId(long boardId) {
+        return read(() -> List.copyOf(columnIdsByBoard.get(boardId)));
+    }
+
+    List<ColumnRecord> findColumnRecordsByBoardId(long boardId) {
+        return read(() -> columnIdsByBoard.get(boardId).stream()
+                .map(cache::get)
+                .toList());
+    }
+
+    OptionalLong findBoardIdByColumnId(long columnId) {
+        ColumnRecord record = read(() -> cache.get(columnId));
+        return record == null ? OptionalLong.empty() : OptionalLong.of(record.boardId());
+    }
+
+    private Column toColumn(ColumnRecord record, IdentityMap identityMap) {
+        Board board = identityMap.board(record.boardId(), inFileBoardRepository::findById);
+        return new Column(record.id(), board, record.type());
     }
 
     @Override
@@ -97,19 +201,11 @@ public class InFileColumnRepository implements ColumnRepository, EntityDeletionL
 
     private void deleteColumnsByBoardId(long deletedEntityId) {
         try {
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
-
-            List<String> updatedLines = rows.stream()
-                    .filter(row -> Long.parseLong(row[1]) != deletedEntityId)
-                    .map(row -> String.join(";", row))
-                    .toList();
-
-            try(BufferedWriter bw = Files.newBufferedWriter(FILE_PATH)){
-                bw.write(HEADER + "\n");
-                for (String line : updatedLines) {
-                    bw.write(line + "\n");
-                }
-            }
+            write(() -> {
+                List<Long> columnIds = List.copyOf(columnIdsByBoard.get(deletedEntityId));
+                columnIds.forEach(this::remove);
+                return !columnIds.isEmpty();
+            });
 
         } catch (IOException e) {
             System.out.println("Error trying to delete columns by board ID in file: " + FILE_PATH.getFileName());
@@ -4,185 +4,282 @@ import com.example.management.core.domain.Column;
 import com.example.management.core.domain.Task;
 import com.example.management.infrastructure.persistence.TaskRepository;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public class InFileTaskRepository implements TaskRepository, EntityDeletionListener{
 
     private static final Path FILE_PATH = Paths.get("data", "tasks.csv");
     private static final String HEADER = "ID;TITLE;DESCRIPTION;DUE_DATE;BLOCKED;CREATED_AT;COLUMN_ID";
-    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_DATE_TIME;
-    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_DATE;
 
+    private record TitleKey(long boardId, String foldedTitle) {
+        static TitleKey of(long boardId, String title){
+            return new TitleKey(boardId, title.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final NavigableMap<Long, TaskRecord> cache = new TreeMap<>();
+    private final SecondaryIndex<Long> taskIdsByColumn = new SecondaryIndex<>();
+    private final SecondaryIndex<TitleKey> taskIdsByTitle = new SecondaryIndex<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicCsvFile file = new AtomicCsvFile(FILE_PATH, HEADER);
+    private final GroupCommitWriter writer = new GroupCommitWriter(file, this::snapshot);
+    private long version;
+    private IdSequence idSequence;
     private final InFileColumnRepository inFileColumnRepository;
 
     public InFileTaskRepository(InFileColumnRepository inFileColumnRepository) {
         this.inFileColumnRepository =  inFileColumnRepository;
         try{
             FileUtils.initFile(FILE_PATH, HEADER);
+            file.loadIfChanged(version, this::load);
+            idSequence = new IdSequence(FILE_PATH, cache.isEmpty() ? 0 : cache.lastKey());
 
         } catch (IOException e) {
             System.out.println("Error trying to load file: "+FILE_PATH.getFileName());
         }
     }
 
-    public Task save(Task task){
+    public boolean reloadIfChanged(){
+        lock.writeLock().lock();
         try{
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
+            boolean reloaded = file.loadIfChanged(version + 1, this::load);
+            if(reloaded) version++;
+            if(reloaded && !cache.isEmpty()) idSequence.advanceTo(cache.lastKey());
+            return reloaded;
 
-            if(task.getId() == null){
-                task.setId(FileUtils.getNextId(FILE_PATH));
+        } catch (IOException e){
+            System.out.println("Error trying to reload file: "+FILE_PATH.getFileName());
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
 
-            } else{
-                rows = rows.stream().filter(row -> Long.parseLong(row[0]) != task.getId())
-                        .collect(Collectors.toList());
+    private void load() throws IOException {
+        cache.clear();
+        try(CsvCursor cursor = CsvCursor.open(FILE_PATH)){
+            while(cursor.next()){
+                TaskRecord record = TaskRecord.fromCursor(cursor);
+                cache.put(record.id(), record);
             }
+        }
+        rebuildIndexes();
+    }
 
-            String[] newRow = {
-                    String.valueOf(task.getId()),
-                    task.getTitle(),
-                    task.getDescription(),
-                    task.getDueDate().format(dateFormatter),
-                    String.valueOf(task.isBlocked()),
-                    task.getCreatedAt().format(dateTimeFormatter),
-                    String.valueOf(task.getColumn().getId())
-            };
-
-            rows.add(newRow);
+    public void refreshIndexes(){
+        lock.writeLock().lock();
+        try{
+            rebuildIndexes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
 
-            try(BufferedWriter bw = Files.newBufferedWriter(FILE_PATH)){
-                bw.write(HEADER + "\n");
+    private void rebuildIndexes(){
+        taskIdsByColumn.clear();
+        taskIdsByTitle.clear();
+        cache.values().forEach(this::index);
+    }
 
-                for (String[] row : rows){
-                    bw.write(String.join(";", row) + "\n");
-                }
-            }
+    private void index(TaskRecord record){
+        taskIdsByColumn.add(record.columnId(), record.id());
+        OptionalLong boardId = inFileColumnRepository.findBoardIdByColumnId(record.columnId());
+        if(boardId.isPresent()) taskIdsByTitle.add(TitleKey.of(boardId.getAsLong(), record.title()), record.id());
+    }
 
-        } catch (IOException e){
-            System.out.println("Error trying to save task in file: "+FILE_PATH.getFileName());
-        }
-        return task;
+    private void unindex(TaskRecord record){
+        taskIdsByColumn.remove(record.columnId(), record.id());
+        OptionalLong boardId = inFileColumnRepository.findBoardIdByColumnId(record.columnId());
+        if(boardId.isPresent()) taskIdsByTitle.remove(TitleKey.of(boardId.getAsLong(), record.title()), record.id());
     }
 
-    public Optional<Task> findById(long id){
-        try{
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
+    private void put(TaskRecord record){
+        TaskRecord previous = cache.put(record.id(), record);
+        if(previous != null) unindex(previous);
+        index(record);
+    }
 
-            return rows.stream().filter(row -> Long.parseLong(row[0]) == id)
-                    .map(row -> {
-                        Task task = new Task();
-                        task.setId(Long.parseLong(row[0]));
-                        task.setTitle(row[1]);
-                        task.setDescription(row[2]);
-                        task.setDueDate(LocalDate.parse(row[3]));
-                        task.setBlocked(Boolean.valueOf(row[4]));
-                        task.setCreatedAt(LocalDateTime.parse(row[5]));
+    private boolean remove(long id){
+        TaskRecord previous = cache.remove(id);
+        if(previous != null) unindex(previous);
+        return previous != null;
+    }
 
-                        Column column = inFileColumnRepository.findById(Long.parseLong(row[6])).get();
-                        task.setColumn(column);
+    private <T> T read(Supplier<T> query){
+        lock.readLock().lock();
+        try{
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-                        return task;})
-                    .findFirst();
+    private void write(BooleanSupplier mutation) throws IOException {
+        long writeVersion;
 
-        } catch (IOException e){
-            System.out.println("Error trying to find task by ID in file: "+FILE_PATH.getFileName());
+        lock.writeLock().lock();
+        try{
+            if(!mutation.getAsBoolean()) return;
+            writeVersion = ++version;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return Optional.empty();
+
+        writer.submit(writeVersion);
     }
 
-    public List<Task> findAll(){
+    private GroupCommitWriter.Snapshot snapshot(){
+        long snapshotVersion;
+        List<TaskRecord> records;
+
+        lock.readLock().lock();
         try{
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
+            snapshotVersion = version;
+            records = List.copyOf(cache.values());
+        } finally {
+            lock.readLock().unlock();
+        }
 
-            return rows.stream().map( row -> {
-                Task task = new Task();
-                task.setId(Long.parseLong(row[0]));
-                task.setTitle(row[1]);
-                task.setDescription(row[2]);
-                task.setDueDate(LocalDate.parse(row[3]));
-                task.setBlocked(Boolean.valueOf(row[4]));
-                task.setCreatedAt(LocalDateTime.parse(row[5]));
+        return new GroupCommitWriter.Snapshot(snapshotVersion, records.stream().map(TaskRecord::toRow).toList());
+    }
 
-                Column column = inFileColumnRepository.findById(Long.parseLong(row[6])).get();
-                task.setColumn(column);
+    public Task save(Task task){
+        try{
+            if(task.getId() == null){
+                task.setId(idSequence.next());
+            }
 
-                return task;})
-                .toList();
+            TaskRecord record = TaskRecord.fromTask(task);
+            write(() -> {
+                put(record);
+                return true;
+            });
 
         } catch (IOException e){
-            System.out.println("Error trying to find tasks in file: "+FILE_PATH.getFileName());
+            System.out.println("Error trying to save task in file: "+FILE_PATH.getFileName());
         }
-        return List.of();
+        return task;
+    }
+
+    public Optional<Task> findById(long id){
+        return read(() -> Optional.ofNullable(cache.get(id))).map(record -> toTask(record, new IdentityMap()));
+    }
+
+    @Override
+    public OptionalLong findBoardIdById(long id){
+        TaskRecord record = read(() -> cache.get(id));
+        return record == null ? OptionalLong.empty() : inFileColumnRepository.findBoardIdByColumnId(record.columnId());
+    }
+
+    public List<Task> findAll(){
+        return toTasks(read(() -> List.copyOf(cache.values())));
     }
 
     public List<Task> findAllByBoardId(long boardId){
-        return findAll().stream().filter(task ->
-                task.getColumn().getBoard().getId().equals(boardId)).toList();
+        List<Long> columnIds = inFileColumnRepository.findColumnIdsByBoardId(boardId);
+        return toTasks(read(() -> columnIds.stream()
+                .flatMap(columnId -> taskIdsByColumn.get(columnId).stream())
+                .map(cache::get)
+                .toList()));
     }
 
     public List<Task> findAllByColumnId(long columnId){
-        return findAll().stream().filter(task ->
-                task.getColumn().getId().equals(columnId)).toList();
+        return toTasks(read(() -> taskIdsByColumn.get(columnId).stream()
+                .map(cache::get)
+                .toList()));
     }
 
-    public boolean existsById(long id){
-        try{
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
+    public List<Task> findAllByBoardId(long boardId, long afterId, int limit){
+        List<Long> columnIds = inFileColumnRepository.findColumnIdsByBoardId(boardId);
+        return toTasks(read(() -> columnIds.stream()
+                .flatMap(columnId -> taskIdsByColumn.after(columnId, afterId, limit).stream())
+                .sorted()
+                .limit(limit)
+                .map(cache::get)
+                .toList()));
+    }
+
+    public List<Task> findAllByColumnId(long columnId, long afterId, int limit){
+        return toTasks(read(() -> taskIdsByColumn.after(columnId, afterId, limit).stream()
+                .map(cache::get)
+                .toList()));
+    }
 
-            return rows.stream().anyMatch(row -> Long.parseLong(row[0]) == id);
+    int countByColumnId(long columnId){
+        return read(() -> taskIdsByColumn.get(columnId).size());
+    }
 
-        } catch (IOException e){
-            System.out.println("Error trying to find task by ID in file: "+FILE_PATH.getFileName());
-        }
-        return false;
+    public boolean existsById(long id){
+        return read(() -> cache.containsKey(id));
     }
 
     public boolean existsByTitleInBoard(String title, long boardId){
-        return findAllByBoardId(boardId).stream()
-                .anyMatch(task -> task.getTitle().equalsIgnoreCase(title));
+        return read(() -> !taskIdsByTitle.get(TitleKey.of(boardId, title)).isEmpty());
     }
 
     public boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id){
-        return findAllByBoardId(boardId).stream()
-                .anyMatch(task -> task.getTitle().equalsIgnoreCase(title) && !task.getId().equals(id));
+        return read(() -> taskIdsByTitle.containsOtherThan(TitleKey.of(boardId, title), id));
     }
 
     public void deleteById(long id) {
         try{
-            List<String[]> rows = FileUtils.readAllRows(FILE_PATH);
+            write(() -> remove(id));
 
-            rows = rows.stream().filter(row -> Long.parseLong(row[0]) != id).toList();
-
-            try(BufferedWriter bw = Files.newBufferedWriter(FILE_PATH)){
-                bw.write(HEADER + "\n");
+        }catch (IOException e){
+            System.out.println("Error trying to delete task in file: "+FILE_PATH.getFileName());
+        }
+    }
 
-                for(String[] row : rows){
-                    bw.write(String.join(";", row) + "\n");
+    @Override
+    public void deleteAllById(Collection<Long> ids) {
+        try{
+            write(() -> {
+                boolean changed = false;
+                for(long id : ids){
+                    changed |= remove(id);
                 }
-            }
+                return changed;
+            });
 
         }catch (IOException e){
-            System.out.println("Error trying to delete task in file: "+FILE_PATH.getFileName());
+            System.out.println("Error trying to delete tasks in file: "+FILE_PATH.getFileName());
         }
     }
 
+    private List<Task> toTasks(List<TaskRecord> records){
+        IdentityMap identityMap = new IdentityMap();
+        return records.stream().map(record -> toTask(record, identityMap)).toList();
+    }
+
+    private Task toTask(TaskRecord record, IdentityMap identityMap){
+        Column column = identityMap.column(record.columnId(), id -> inFileColumnRepository.findById(id, identityMap));
+        return record.toTask(column);
+    }
+
     @Override
     public void onEntityDeleted(long deletedEntityId) {
         System.out.println("FILE TASK REPOSITORY NOTIFICATION: BOARD ID["+ deletedEntityId +"] deleted... Deleting tasks related to it.");
         deleteAllByBoardId(deletedEntityId);
     }
 
-    private void deleteAllByBoardId(long deletedColumnId){
-        List<Task> tasks = findAllByBoardId(deletedColumnId);
-        tasks.forEach(task -> deleteById(task.getId()));
+    private void deleteAllByBoardId(long deletedBoardId){
+        List<Long> columnIds = inFileColumnRepository.findColumnIdsByBoardId(deletedBoardId);
+        List<Long> taskIds = read(() -> columnIds.stream()
+                .flatMap(columnId -> taskIdsByColumn.get(columnId).stream())
+                .toList());
+        deleteAllById(taskIds);
     }
 }
@@ -0,0 +1,107 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Board;
+import com.example.management.infrastructure.persistence.BoardRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class LogBoardRepository implements BoardRepository {
+
+    private static final Path FILE_PATH = Paths.get("data", "boards.log");
+
+    private LogStore store;
+    private IdSequence idSequence;
+    private final List<EntityDeletionListener> listeners = new ArrayList<>();
+
+    public LogBoardRepository(){
+        try{
+            store = new LogStore(FILE_PATH);
+            idSequence = new IdSequence(FILE_PATH, store.maxId());
+
+        } catch (IOException e) {
+            System.out.println("Error trying to load file: "+FILE_PATH.getFileName());
+        }
+    }
+
+    public void addListener(EntityDeletionListener listener){
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public Board save(Board board) {
+        try{
+            if(board.getId() == null){
+                board.setId(idSequence.next());
+            }
+            store.put(board.getId(), BoardRecord.fromBoard(board).toRow());
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save board in file: "+FILE_PATH.getFileName());
+        }
+        return board;
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return store.contains(id);
+    }
+
+    @Override
+    public boolean existsByTitle(String title) {
+        return readAll().stream()
+                .anyMatch(record -> record.title().equalsIgnoreCase(title));
+    }
+
+    @Override
+    public boolean existsByTitleAndIdNot(String title, long id) {
+        return readAll().stream()
+                .anyMatch(record -> record.title().equalsIgnoreCase(title) && record.id() != id);
+    }
+
+    @Override
+    public List<Board> getAll() {
+        return readAll().stream().map(BoardRecord::toBoard).toList();
+    }
+
+    @Override
+    public Optional<Board> findById(long id) {
+        try{
+            return store.get(id).map(value -> BoardRecord.fromCursor(CsvCursor.ofRow(value)).toBoard());
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find board by ID in file: "+FILE_PATH.getFileName());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void deleteById(long id) {
+        try{
+            listeners.forEach(l -> l.onEntityDeleted(id));
+            store.delete(id);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to delete board by id in file: "+FILE_PATH.getFileName());
+        }
+    }
+
+    public Optional<CompactionStats> getLastCompactionStats(){
+        return store.getLastCompactionStats();
+    }
+
+    private List<BoardRecord> readAll(){
+        List<BoardRecord> records = new ArrayList<>();
+        try{
+            store.forEach((id, value) -> records.add(BoardRecord.fromCursor(CsvCursor.ofRow(value))));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to read boards in file: "+FILE_PATH.getFileName());
+        }
+        return records;
+    }
+}
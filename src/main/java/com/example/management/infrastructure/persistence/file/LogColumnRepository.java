@@ -0,0 +1,174 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Board;
+import com.example.management.core.domain.Column;
+import com.example.management.infrastructure.persistence.BoardRepository;
+import com.example.management.infrastructure.persistence.ColumnRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+public class LogColumnRepository implements ColumnRepository, EntityDeletionListener {
+
+    private static final Path FILE_PATH = Paths.get("data", "columns.log");
+
+    private LogStore store;
+    private IdSequence idSequence;
+    private final BoardRepository boardRepository;
+    private final Map<Long, Long> boardIdsByColumn = new HashMap<>();
+    private final SecondaryIndex<Long> columnIdsByBoard = new SecondaryIndex<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LogColumnRepository(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+        try{
+            store = new LogStore(FILE_PATH);
+            idSequence = new IdSequence(FILE_PATH, store.maxId());
+            store.forEach((id, value) -> index(ColumnRecord.fromCursor(CsvCursor.ofRow(value))));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to load file: "+FILE_PATH.getFileName());
+        }
+    }
+
+    private void index(ColumnRecord record){
+        Long previousBoardId = boardIdsByColumn.put(record.id(), record.boardId());
+        if(previousBoardId != null) columnIdsByBoard.remove(previousBoardId, record.id());
+        columnIdsByBoard.add(record.boardId(), record.id());
+    }
+
+    private void unindex(long id){
+        Long boardId = boardIdsByColumn.remove(id);
+        if(boardId != null) columnIdsByBoard.remove(boardId, id);
+    }
+
+    private <T> T read(Supplier<T> query){
+        lock.readLock().lock();
+        try{
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void save(Column column) {
+        lock.writeLock().lock();
+        try{
+            if(column.getId() == null){
+                column.setId(idSequence.next());
+            }
+            ColumnRecord record = ColumnRecord.fromColumn(column);
+            store.put(record.id(), record.toRow());
+            index(record);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save column in file: "+FILE_PATH.getFileName());
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(List<Column> columns) {
+        lock.writeLock().lock();
+        try{
+            Map<Long, String> rows = new LinkedHashMap<>();
+            List<ColumnRecord> records = new ArrayList<>();
+            for(Column column : columns){
+                if(column.getId() == null){
+                    column.setId(idSequence.next());
+                }
+                ColumnRecord record = ColumnRecord.fromColumn(column);
+                rows.put(record.id(), record.toRow());
+                records.add(record);
+            }
+            store.putAll(rows);
+            records.forEach(this::index);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save columns in file: "+FILE_PATH.getFileName());
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Column> findById(long id) {
+        return findById(id, new IdentityMap());
+    }
+
+    Optional<Column> findById(long id, IdentityMap identityMap) {
+        try{
+            return store.get(id).map(value -> toColumn(ColumnRecord.fromCursor(CsvCursor.ofRow(value)), identityMap));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find column by ID in file: "+FILE_PATH.getFileName());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Column> findAllByBoardId(long boardId) {
+        IdentityMap identityMap = new IdentityMap();
+        List<Column> columns = new ArrayList<>();
+        for(long id : findColumnIdsByBoardId(boardId)){
+            findById(id, identityMap).ifPresent(columns::add);
+        }
+        return columns;
+    }
+
+    List<Long> findColumnIdsByBoardId(long boardId) {
+        return read(() -> List.copyOf(columnIdsByBoard.get(boardId)));
+    }
+
+    OptionalLong findBoardIdByColumnId(long columnId) {
+        Long boardId = read(() -> boardIdsByColumn.get(columnId));
+        return boardId == null ? OptionalLong.empty() : OptionalLong.of(boardId);
+    }
+
+    private Column toColumn(ColumnRecord record, IdentityMap identityMap) {
+        Board board = identityMap.board(record.boardId(), boardRepository::findById);
+        return new Column(record.id(), board, record.type());
+    }
+
+    public Optional<CompactionStats> getLastCompactionStats(){
+        return store.getLastCompactionStats();
+    }
+
+    private void deleteAllById(Collection<Long> ids) throws IOException {
+        lock.writeLock().lock();
+        try{
+            store.deleteAll(ids);
+            ids.forEach(this::unindex);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEntityDeleted(long deletedEntityId) {
+        System.out.println("LOG COLUMN REPOSITORY NOTIFICATION: Board ID["+ deletedEntityId +"] deleted... Deleting columns related to it.");
+        try{
+            deleteAllById(findColumnIdsByBoardId(deletedEntityId));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to delete columns by board ID in file: "+FILE_PATH.getFileName());
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+public class LogStore implements AutoCloseable {
+
+    private static final byte UPSERT = 1;
+    private static final byte TOMBSTONE = 2;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final double DEFAULT_GARBAGE_RATIO = 0.5;
+    private static final long DEFAULT_MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "log-store-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Entry(long valueOffset, int valueLength) {
+        long recordSize(){
+            return RECORD_HEADER_SIZE + valueLength;
+        }
+    }
+
+    private final Path path;
+    private final Path compactPath;
+    private final double garbageRatioThreshold;
+    private final long minCompactionBytes;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Object writeMutex = new Object();
+    private final Object compactionMutex = new Object();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    private FileChannel channel;
+    private NavigableMap<Long, Entry> keyDir = new ConcurrentSkipListMap<>();
+    private long writePosition;
+    private long liveBytes;
+    private long maxId;
+
+    private volatile CompactionStats lastCompactionStats;
+    private volatile long totalBytesReclaimed;
+    private volatile int compactionCount;
+
+    public LogStore(Path path) throws IOException {
+        this(path, DEFAULT_GARBAGE_RATIO, DEFAULT_MIN_COMPACTION_BYTES);
+    }
+
+    public LogStore(Path path, double garbageRatioThreshold, long minCompactionBytes) throws IOException {
+        this.path = path;
+        this.compactPath = path.resolveSibling(path.getFileName() + ".compact");
+        this.garbageRatioThreshold = garbageRatioThreshold;
+        this.minCompactionBytes = minCompactionBytes;
+
+        if(path.getParent() != null && !Files.exists(path.getParent())){
+            Files.createDirectories(path.getParent());
+        }
+        Files.deleteIfExists(compactPath);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        replay();
+    }
+
+    private void replay() throws IOException {
+        long position = replay(channel, 0, channel.size(), keyDir);
+
+        if(position < channel.size()){
+            System.out.println("Discarding torn tail of log file: "+path.getFileName());
+            channel.truncate(position);
+        }
+        writePosition = position;
+        liveBytes = keyDir.values().stream().mapToLong(Entry::recordSize).sum();
+    }
+
+    private long replay(FileChannel source, long from, long to, Map<Long, Entry> target) throws IOException {
+        long position = from;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+
+        while (position + RECORD_HEADER_SIZE <= to){
+            header.clear();
+            readFully(source, header, position);
+            header.flip();
+
+            int crc = header.getInt();
+            byte type = header.get();
+            long id = header.getLong();
+            int length = header.getInt();
+
+            if(length < 0 || position + RECORD_HEADER_SIZE + length > to) break;
+
+            ByteBuffer value = ByteBuffer.allocate(length);
+            readFully(source, value, position + RECORD_HEADER_SIZE);
+            if(crc != checksum(type, id, value.array())) break;
+
+            if(type == UPSERT){
+                target.put(id, new Entry(position + RECORD_HEADER_SIZE, length));
+            } else {
+                target.remove(id);
+            }
+            maxId = Math.max(maxId, id);
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    public void put(long id, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        synchronized (writeMutex){
+            long recordOffset = append(UPSERT, id, bytes);
+            Entry previous = keyDir.put(id, new Entry(recordOffset + RECORD_HEADER_SIZE, bytes.length));
+            if(previous != null) liveBytes -= previous.recordSize();
+            liveBytes += RECORD_HEADER_SIZE + bytes.length;
+            maxId = Math.max(maxId, id);
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    public void putAll(Map<Long, String> values) throws IOException {
+        if(values.isEmpty()) return;
+
+        Map<Long, byte[]> encoded = new LinkedHashMap<>();
+        int batchSize = 0;
+        for(Map.Entry<Long, String> value : values.entrySet()){
+            byte[] bytes = value.getValue().getBytes(StandardCharsets.UTF_8);
+            encoded.put(value.getKey(), bytes);
+            batchSize += RECORD_HEADER_SIZE + bytes.length;
+        }
+
+        ByteBuffer batch = ByteBuffer.allocate(batchSize);
+        encoded.forEach((id, bytes) -> putRecord(batch, UPSERT, id, bytes));
+        batch.flip();
+
+        synchronized (writeMutex){
+            long recordOffset = writePosition;
+            writePosition += writeFully(channel, batch, writePosition);
+
+            for(Map.Entry<Long, byte[]> value : encoded.entrySet()){
+                long id = value.getKey();
+                int length = value.getValue().length;
+                Entry previous = keyDir.put(id, new Entry(recordOffset + RECORD_HEADER_SIZE, length));
+                if(previous != null) liveBytes -= previous.recordSize();
+                liveBytes += RECORD_HEADER_SIZE + length;
+                maxId = Math.max(maxId, id);
+                recordOffset += RECORD_HEADER_SIZE + length;
+            }
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    public void delete(long id) throws IOException {
+        synchronized (writeMutex){
+            if(!keyDir.containsKey(id)) return;
+            append(TOMBSTONE, id, new byte[0]);
+            liveBytes -= keyDir.remove(id).recordSize();
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    public void deleteAll(Collection<Long> ids) throws IOException {
+        synchronized (writeMutex){
+            List<Long> present = ids.stream().filter(keyDir::containsKey).distinct().toList();
+            if(present.isEmpty()) return;
+
+            ByteBuffer batch = ByteBuffer.allocate(present.size() * RECORD_HEADER_SIZE);
+            present.forEach(id -> putRecord(batch, TOMBSTONE, id, new byte[0]));
+            batch.flip();
+            writePosition += writeFully(channel, batch, writePosition);
+
+            for(long id : present){
+                liveBytes -= keyDir.remove(id).recordSize();
+            }
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    public Optional<String> get(long id) throws IOException {
+        swapLock.readLock().lock();
+        try{
+            Entry entry = keyDir.get(id);
+            if(entry == null) return Optional.empty();
+            return Optional.of(read(entry));
+
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id){
+        swapLock.readLock().lock();
+        try{
+            return keyDir.containsKey(id);
+
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public void forEach(BiConsumer<Long, String> action) throws IOException {
+        swapLock.readLock().lock();
+        try{
+            for(Map.Entry<Long, Entry> entry : keyDir.entrySet()){
+                action.accept(entry.getKey(), read(entry.getValue()));
+            }
+
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public long maxId(){
+        synchronized (writeMutex){
+            return maxId;
+        }
+    }
+
+    public double garbageRatio(){
+        synchronized (writeMutex){
+            return writePosition == 0 ? 0 : 1 - (double) liveBytes / writePosition;
+        }
+    }
+
+    public Optional<CompactionStats> getLastCompactionStats(){
+        return Optional.ofNullable(lastCompactionStats);
+    }
+
+    public long getTotalBytesReclaimed(){
+        return totalBytesReclaimed;
+    }
+
+    public int getCompactionCount(){
+        return compactionCount;
+    }
+
+    private boolean needsCompaction(){
+        synchronized (writeMutex){
+            return writePosition >= minCompactionBytes && 1 - (double) liveBytes / writePosition >= garbageRatioThreshold;
+        }
+    }
+
+    private void scheduleCompactionIfNeeded(){
+        if(needsCompaction() && compactionScheduled.compareAndSet(false, true)){
+            COMPACTOR.execute(() -> {
+                boolean compacted = false;
+                try{
+                    compact();
+                    compacted = true;
+
+                } catch (IOException e) {
+                    System.out.println("Error trying to compact log file: "+path.getFileName());
+
+                } finally {
+                    compactionScheduled.set(false);
+                }
+                // A failed run is retried by the next write, never from here, so a persistent error cannot spin
+                if(compacted) scheduleCompactionIfNeeded();
+            });
+        }
+    }
+
+    public CompactionStats compact() throws IOException {
+        synchronized (compactionMutex){
+            return rewriteLiveRecords();
+        }
+    }
+
+    private CompactionStats rewriteLiveRecords() throws IOException {
+        long start = System.nanoTime();
+        NavigableMap<Long, Entry> snapshot;
+        long snapshotEnd;
+        long snapshotMaxId;
+
+        synchronized (writeMutex){
+            snapshot = new ConcurrentSkipListMap<>(keyDir);
+            snapshotEnd = writePosition;
+            snapshotMaxId = maxId;
+        }
+
+        NavigableMap<Long, Entry> compactedKeyDir = new ConcurrentSkipListMap<>();
+        FileChannel compacted = FileChannel.open(compactPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        boolean swapped = false;
+        try{
+            long compactedPosition = 0;
+            if(snapshotMaxId > 0 && (snapshot.isEmpty() || snapshot.lastKey() < snapshotMaxId)){
+                compactedPosition += writeRecord(compacted, compactedPosition, TOMBSTONE, snapshotMaxId, new byte[0]);
+            }
+            for(Map.Entry<Long, Entry> entry : snapshot.entrySet()){
+                byte[] value = readBytes(channel, entry.getValue());
+                compactedPosition += writeRecord(compacted, compactedPosition, UPSERT, entry.getKey(), value);
+                compactedKeyDir.put(entry.getKey(), new Entry(compactedPosition - value.length, value.length));
+            }
+
+            CompactionStats stats;
+            synchronized (writeMutex){
+                long tailLength = writePosition - snapshotEnd;
+
+                long copied = 0;
+                compacted.position(compactedPosition);
+                while (copied < tailLength){
+                    copied += channel.transferTo(snapshotEnd + copied, tailLength - copied, compacted);
+                }
+                replay(compacted, compactedPosition, compactedPosition + tailLength, compactedKeyDir);
+                compacted.force(true);
+
+                long bytesBefore = writePosition;
+                long bytesAfter = compactedPosition + tailLength;
+
+                // Both files are closed before the move, since some platforms refuse to replace an open file
+                swapLock.writeLock().lock();
+                try{
+                    compacted.close();
+                    channel.close();
+                    try{
+                        Files.move(compactPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                        keyDir = compactedKeyDir;
+                        writePosition = bytesAfter;
+                        liveBytes = compactedKeyDir.values().stream().mapToLong(Entry::recordSize).sum();
+                        swapped = true;
+
+                    } finally {
+                        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    }
+
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+
+                long reclaimed = bytesBefore - bytesAfter;
+                stats = new CompactionStats(
+                        path.getFileName().toString(),
+                        bytesBefore,
+                        bytesAfter,
+                        reclaimed,
+                        compactedKeyDir.size(),
+                        (System.nanoTime() - start) / 1_000_000,
+                        LocalDateTime.now());
+
+                lastCompactionStats = stats;
+                totalBytesReclaimed += reclaimed;
+                compactionCount++;
+            }
+            return stats;
+
+        } finally {
+            if(!swapped){
+                compacted.close();
+                Files.deleteIfExists(compactPath);
+            }
+        }
+    }
+
+    private long append(byte type, long id, byte[] value) throws IOException {
+        long recordOffset = writePosition;
+        writePosition += writeRecord(channel, writePosition, type, id, value);
+        return recordOffset;
+    }
+
+    private static int writeRecord(FileChannel target, long position, byte type, long id, byte[] value) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + value.length);
+        putRecord(record, type, id, value);
+        record.flip();
+        return writeFully(target, record, position);
+    }
+
+    private static void putRecord(ByteBuffer target, byte type, long id, byte[] value){
+        target.putInt(checksum(type, id, value))
+                .put(type)
+                .putLong(id)
+                .putInt(value.length)
+                .put(value);
+    }
+
+    private static int writeFully(FileChannel target, ByteBuffer buffer, long position) throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()){
+            written += target.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    private String read(Entry entry) throws IOException {
+        return new String(readBytes(channel, entry), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes(FileChannel source, Entry entry) throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(entry.valueLength());
+        readFully(source, value, entry.valueOffset());
+        return value.array();
+    }
+
+    private void readFully(FileChannel source, ByteBuffer buffer, long position) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()){
+            int read = source.read(buffer, position + buffer.position() - start);
+            if(read < 0) throw new IOException("Unexpected end of log file: "+path.getFileName());
+        }
+    }
+
+    private static int checksum(byte type, long id, byte[] value){
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(Byte.BYTES + Long.BYTES + Integer.BYTES)
+                .put(type).putLong(id).putInt(value.length).flip());
+        crc.update(value);
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeMutex){
+            swapLock.writeLock().lock();
+            try{
+                channel.close();
+
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+import com.example.management.infrastructure.persistence.TaskRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+public class LogTaskRepository implements TaskRepository, EntityDeletionListener {
+
+    private static final Path FILE_PATH = Paths.get("data", "tasks.log");
+
+    private record TitleKey(long boardId, String foldedTitle) {
+        static TitleKey of(long boardId, String title){
+            return new TitleKey(boardId, title.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private record IndexEntry(long columnId, TitleKey titleKey) {}
+
+    private LogStore store;
+    private IdSequence idSequence;
+    private final LogColumnRepository logColumnRepository;
+    private final Map<Long, IndexEntry> indexEntries = new HashMap<>();
+    private final SecondaryIndex<Long> taskIdsByColumn = new SecondaryIndex<>();
+    private final SecondaryIndex<TitleKey> taskIdsByTitle = new SecondaryIndex<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LogTaskRepository(LogColumnRepository logColumnRepository) {
+        this.logColumnRepository = logColumnRepository;
+        try{
+            store = new LogStore(FILE_PATH);
+            idSequence = new IdSequence(FILE_PATH, store.maxId());
+            store.forEach((id, value) -> index(TaskRecord.fromCursor(CsvCursor.ofRow(value))));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to load file: "+FILE_PATH.getFileName());
+        }
+    }
+
+    private void index(TaskRecord record){
+        unindex(record.id());
+
+        OptionalLong boardId = logColumnRepository.findBoardIdByColumnId(record.columnId());
+        TitleKey titleKey = boardId.isPresent() ? TitleKey.of(boardId.getAsLong(), record.title()) : null;
+        indexEntries.put(record.id(), new IndexEntry(record.columnId(), titleKey));
+        taskIdsByColumn.add(record.columnId(), record.id());
+        if(titleKey != null) taskIdsByTitle.add(titleKey, record.id());
+    }
+
+    private void unindex(long id){
+        IndexEntry entry = indexEntries.remove(id);
+        if(entry == null) return;
+        taskIdsByColumn.remove(entry.columnId(), id);
+        if(entry.titleKey() != null) taskIdsByTitle.remove(entry.titleKey(), id);
+    }
+
+    private <T> T read(Supplier<T> query){
+        lock.readLock().lock();
+        try{
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Task save(Task task) {
+        lock.writeLock().lock();
+        try{
+            if(task.getId() == null){
+                task.setId(idSequence.next());
+            }
+            TaskRecord record = TaskRecord.fromTask(task);
+            store.put(record.id(), record.toRow());
+            index(record);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save task in file: "+FILE_PATH.getFileName());
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return task;
+    }
+
+    @Override
+    public Optional<Task> findById(long id) {
+        return findById(id, new IdentityMap());
+    }
+
+    private Optional<Task> findById(long id, IdentityMap identityMap) {
+        try{
+            return store.get(id).map(value -> toTask(TaskRecord.fromCursor(CsvCursor.ofRow(value)), identityMap));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find task by ID in file: "+FILE_PATH.getFileName());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public OptionalLong findBoardIdById(long id) {
+        IndexEntry entry = read(() -> indexEntries.get(id));
+        return entry == null ? OptionalLong.empty() : logColumnRepository.findBoardIdByColumnId(entry.columnId());
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return store.contains(id);
+    }
+
+    @Override
+    public boolean existsByTitleInBoard(String title, long boardId) {
+        return read(() -> !taskIdsByTitle.get(TitleKey.of(boardId, title)).isEmpty());
+    }
+
+    @Override
+    public boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id) {
+        return read(() -> taskIdsByTitle.containsOtherThan(TitleKey.of(boardId, title), id));
+    }
+
+    @Override
+    public List<Task> findAllByBoardId(long boardId) {
+        List<Long> columnIds = logColumnRepository.findColumnIdsByBoardId(boardId);
+        return toTasks(read(() -> columnIds.stream()
+                .flatMap(columnId -> taskIdsByColumn.get(columnId).stream())
+                .sorted()
+                .toList()));
+    }
+
+    @Override
+    public List<Task> findAllByColumnId(long columnId) {
+        return toTasks(read(() -> List.copyOf(taskIdsByColumn.get(columnId))));
+    }
+
+    @Override
+    public List<Task> findAllByBoardId(long boardId, long afterId, int limit) {
+        List<Long> columnIds = logColumnRepository.findColumnIdsByBoardId(boardId);
+        return toTasks(read(() -> columnIds.stream()
+                .flatMap(columnId -> taskIdsByColumn.after(columnId, afterId, limit).stream())
+                .sorted()
+                .limit(limit)
+                .toList()));
+    }
+
+    @Override
+    public List<Task> findAllByColumnId(long columnId, long afterId, int limit) {
+        return toTasks(read(() -> taskIdsByColumn.after(columnId, afterId, limit)));
+    }
+
+    @Override
+    public void deleteById(long id) {
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try{
+            store.deleteAll(ids);
+            ids.forEach(this::unindex);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to delete tasks in file: "+FILE_PATH.getFileName());
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Task> toTasks(List<Long> ids){
+        IdentityMap identityMap = new IdentityMap();
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for(long id : ids){
+            findById(id, identityMap).ifPresent(tasks::add);
+        }
+        return tasks;
+    }
+
+    private Task toTask(TaskRecord record, IdentityMap identityMap){
+        Column column = identityMap.column(record.columnId(), id -> logColumnRepository.findById(id, identityMap));
+        return record.toTask(column);
+    }
+
+    public Optional<CompactionStats> getLastCompactionStats(){
+        return store.getLastCompactionStats();
+    }
+
+    @Override
+    public void onEntityDeleted(long deletedEntityId) {
+        System.out.println("LOG TASK REPOSITORY NOTIFICATION: BOARD ID["+ deletedEntityId +"] deleted... Deleting tasks related to it.");
+        List<Long> columnIds = logColumnRepository.findColumnIdsByBoardId(deletedEntityId);
+        deleteAllById(read(() -> columnIds.stream()
+                .flatMap(columnId -> taskIdsByColumn.get(columnId).stream())
+                .toList()));
+    }
+}
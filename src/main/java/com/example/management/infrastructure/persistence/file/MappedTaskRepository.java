@@ -0,0 +1,285 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+import com.example.management.infrastructure.persistence.TaskRepository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+public class MappedTaskRepository implements TaskRepository, EntityDeletionListener {
+
+    private static final Path SLOTS_PATH = Paths.get("data", "tasks.slots");
+    private static final Path HEAP_PATH = Paths.get("data", "tasks.heap");
+
+    private static final int SLOT_SIZE = 64;
+    private static final int REGION_SLOTS = 1 << 16;
+    private static final long REGION_BYTES = (long) REGION_SLOTS * SLOT_SIZE;
+
+    private static final byte EMPTY = 0;
+    private static final byte LIVE = 1;
+    private static final byte DELETED = 2;
+
+    private static final int STATE_OFFSET = 0;
+    private static final int BLOCKED_OFFSET = 1;
+    private static final int ID_OFFSET = 8;
+    private static final int COLUMN_ID_OFFSET = 16;
+    private static final int DUE_DATE_OFFSET = 24;
+    private static final int CREATED_AT_SECONDS_OFFSET = 32;
+    private static final int CREATED_AT_NANOS_OFFSET = 40;
+    private static final int HEAP_OFFSET_OFFSET = 44;
+    private static final int TITLE_LENGTH_OFFSET = 52;
+    private static final int DESCRIPTION_LENGTH_OFFSET = 56;
+
+    private record Slot(MappedByteBuffer buffer, int base) {}
+
+    private final InFileColumnRepository inFileColumnRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FileChannel slotsChannel;
+    private FileChannel heapChannel;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private long highestId;
+
+    public MappedTaskRepository(InFileColumnRepository inFileColumnRepository) {
+        this.inFileColumnRepository = inFileColumnRepository;
+        try{
+            if(!Files.exists(SLOTS_PATH.getParent())){
+                Files.createDirectories(SLOTS_PATH.getParent());
+            }
+            slotsChannel = FileChannel.open(SLOTS_PATH, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            heapChannel = FileChannel.open(HEAP_PATH, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            long regionCount = Math.max(1, (slotsChannel.size() + REGION_BYTES - 1) / REGION_BYTES);
+            ensureCapacity(regionCount * REGION_SLOTS);
+
+            for(long id = regionCount * REGION_SLOTS; id >= 1; id--){
+                Slot slot = slot(id);
+                if(slot.buffer().get(slot.base() + STATE_OFFSET) != EMPTY){
+                    highestId = id;
+                    break;
+                }
+            }
+
+        } catch (IOException e) {
+            System.out.println("Error trying to load file: "+SLOTS_PATH.getFileName());
+        }
+    }
+
+    @Override
+    public Task save(Task task) {
+        lock.writeLock().lock();
+        try{
+            if(task.getId() == null){
+                task.setId(highestId + 1);
+            }
+            if(task.getId() > highestId + REGION_SLOTS){
+                throw new IOException("Task id "+task.getId()+" is too far above the highest id "+highestId);
+            }
+            ensureCapacity(task.getId());
+
+            Slot slot = slot(task.getId());
+            MappedByteBuffer slots = slot.buffer();
+            int base = slot.base();
+            byte[] title = task.getTitle().getBytes(StandardCharsets.UTF_8);
+            byte[] description = task.getDescription() == null ? new byte[0] : task.getDescription().getBytes(StandardCharsets.UTF_8);
+
+            long heapOffset;
+            boolean fitsInPlace = slots.get(base + STATE_OFFSET) == LIVE
+                    && title.length + description.length <= slots.getInt(base + TITLE_LENGTH_OFFSET) + slots.getInt(base + DESCRIPTION_LENGTH_OFFSET);
+
+            heapOffset = fitsInPlace ? slots.getLong(base + HEAP_OFFSET_OFFSET) : heapChannel.size();
+            writeHeap(heapOffset, title, description);
+
+            slots.putLong(base + ID_OFFSET, task.getId());
+            slots.putLong(base + COLUMN_ID_OFFSET, task.getColumn().getId());
+            slots.putLong(base + DUE_DATE_OFFSET, task.getDueDate().toEpochDay());
+            slots.putLong(base + CREATED_AT_SECONDS_OFFSET, task.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            slots.putInt(base + CREATED_AT_NANOS_OFFSET, task.getCreatedAt().getNano());
+            slots.putLong(base + HEAP_OFFSET_OFFSET, heapOffset);
+            slots.putInt(base + TITLE_LENGTH_OFFSET, title.length);
+            slots.putInt(base + DESCRIPTION_LENGTH_OFFSET, description.length);
+            slots.put(base + BLOCKED_OFFSET, (byte) (task.isBlocked() ? 1 : 0));
+            slots.put(base + STATE_OFFSET, LIVE);
+
+            highestId = Math.max(highestId, task.getId());
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save task in file: "+SLOTS_PATH.getFileName());
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return task;
+    }
+
+    @Override
+    public Optional<Task> findById(long id) {
+        lock.readLock().lock();
+        try{
+            if(!isLive(id)) return Optional.empty();
+            return Optional.of(readTask(slot(id), new IdentityMap()));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find task by ID in file: "+HEAP_PATH.getFileName());
+            return Optional.empty();
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        lock.readLock().lock();
+        try{
+            return isLive(id);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByTitleInBoard(String title, long boardId) {
+        return findAllByBoardId(boardId).stream()
+                .anyMatch(task -> task.getTitle().equalsIgnoreCase(title));
+    }
+
+    @Override
+    public boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id) {
+        return findAllByBoardId(boardId).stream()
+                .anyMatch(task -> task.getTitle().equalsIgnoreCase(title) && !task.getId().equals(id));
+    }
+
+    @Override
+    public List<Task> findAllByBoardId(long boardId) {
+        Set<Long> columnIds = inFileColumnRepository.findAllByBoardId(boardId).stream()
+                .map(Column::getId)
+                .collect(Collectors.toSet());
+        return findAllByColumnIds(columnIds);
+    }
+
+    @Override
+    public List<Task> findAllByColumnId(long columnId) {
+        return findAllByColumnIds(Set.of(columnId));
+    }
+
+    private List<Task> findAllByColumnIds(Set<Long> columnIds) {
+        List<Task> tasks = new ArrayList<>();
+        if(columnIds.isEmpty()) return tasks;
+        IdentityMap identityMap = new IdentityMap();
+
+        lock.readLock().lock();
+        try{
+            for(long id = 1; id <= highestId; id++){
+                Slot slot = slot(id);
+                if(slot.buffer().get(slot.base() + STATE_OFFSET) == LIVE
+                        && columnIds.contains(slot.buffer().getLong(slot.base() + COLUMN_ID_OFFSET))){
+                    tasks.add(readTask(slot, identityMap));
+                }
+            }
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find tasks in file: "+HEAP_PATH.getFileName());
+
+        } finally {
+            lock.readLock().unlock();
+        }
+        return tasks;
+    }
+
+    @Override
+    public void deleteById(long id) {
+        lock.writeLock().lock();
+        try{
+            if(isLive(id)){
+                Slot slot = slot(id);
+                slot.buffer().put(slot.base() + STATE_OFFSET, DELETED);
+            }
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEntityDeleted(long deletedEntityId) {
+        System.out.println("MAPPED TASK REPOSITORY NOTIFICATION: BOARD ID["+ deletedEntityId +"] deleted... Deleting tasks related to it.");
+        deleteAllById(findAllByBoardId(deletedEntityId).stream().map(Task::getId).toList());
+    }
+
+    private boolean isLive(long id){
+        if(id < 1 || id > highestId) return false;
+        Slot slot = slot(id);
+        return slot.buffer().get(slot.base() + STATE_OFFSET) == LIVE;
+    }
+
+    private Slot slot(long id){
+        long offset = (id - 1) * SLOT_SIZE;
+        return new Slot(regions.get((int) (offset / REGION_BYTES)), (int) (offset % REGION_BYTES));
+    }
+
+    private void ensureCapacity(long id) throws IOException {
+        if(id < 1) throw new IOException("Invalid task id: "+id);
+
+        long requiredRegions = (id - 1) / REGION_SLOTS + 1;
+        if(requiredRegions > Integer.MAX_VALUE) throw new IOException("Task id out of range: "+id);
+
+        while (regions.size() < requiredRegions){
+            long position = regions.size() * REGION_BYTES;
+            regions.add(slotsChannel.map(FileChannel.MapMode.READ_WRITE, position, REGION_BYTES));
+        }
+    }
+
+    private Task readTask(Slot slot, IdentityMap identityMap) throws IOException {
+        MappedByteBuffer slots = slot.buffer();
+        int base = slot.base();
+        long heapOffset = slots.getLong(base + HEAP_OFFSET_OFFSET);
+        int titleLength = slots.getInt(base + TITLE_LENGTH_OFFSET);
+        int descriptionLength = slots.getInt(base + DESCRIPTION_LENGTH_OFFSET);
+
+        ByteBuffer text = ByteBuffer.allocate(titleLength + descriptionLength);
+        while (text.hasRemaining()){
+            if(heapChannel.read(text, heapOffset + text.position()) < 0){
+                throw new IOException("Unexpected end of file: "+HEAP_PATH.getFileName());
+            }
+        }
+
+        Task task = new Task();
+        task.setId(slots.getLong(base + ID_OFFSET));
+        task.setTitle(new String(text.array(), 0, titleLength, StandardCharsets.UTF_8));
+        task.setDescription(new String(text.array(), titleLength, descriptionLength, StandardCharsets.UTF_8));
+        task.setDueDate(LocalDate.ofEpochDay(slots.getLong(base + DUE_DATE_OFFSET)));
+        task.setBlocked(slots.get(base + BLOCKED_OFFSET) == 1);
+        task.setCreatedAt(LocalDateTime.ofEpochSecond(
+                slots.getLong(base + CREATED_AT_SECONDS_OFFSET),
+                slots.getInt(base + CREATED_AT_NANOS_OFFSET),
+                ZoneOffset.UTC));
+        task.setColumn(identityMap.column(slots.getLong(base + COLUMN_ID_OFFSET), id -> inFileColumnRepository.findById(id, identityMap)));
+        return task;
+    }
+
+    private void writeHeap(long offset, byte[] title, byte[] description) throws IOException {
+        ByteBuffer text = ByteBuffer.allocate(title.length + description.length).put(title).put(description).flip();
+        while (text.hasRemaining()){
+            heapChannel.write(text, offset + text.position());
+        }
+    }
+}
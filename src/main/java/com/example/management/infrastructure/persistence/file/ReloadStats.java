@@ -0,0 +1,9 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.time.LocalDateTime;
+
+public record ReloadStats(
+        String fileName,
+        long durationMillis,
+        long lagMillis,
+        LocalDateTime finishedAt) {}
@@ -0,0 +1,44 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+class SecondaryIndex<K> {
+
+    private final Map<K, NavigableSet<Long>> entries = new HashMap<>();
+
+    void add(K key, long id){
+        entries.computeIfAbsent(key, k -> new TreeSet<>()).add(id);
+    }
+
+    void remove(K key, long id){
+        Set<Long> ids = entries.get(key);
+        if(ids == null) return;
+        ids.remove(id);
+        if(ids.isEmpty()) entries.remove(key);
+    }
+
+    Set<Long> get(K key){
+        return Collections.unmodifiableSet(entries.getOrDefault(key, Collections.emptyNavigableSet()));
+    }
+
+    List<Long> after(K key, long afterId, int limit){
+        NavigableSet<Long> ids = entries.get(key);
+        if(ids == null) return List.of();
+        return ids.tailSet(afterId, false).stream().limit(limit).toList();
+    }
+
+    boolean containsOtherThan(K key, long id){
+        Set<Long> ids = entries.get(key);
+        return ids != null && (ids.size() > 1 || !ids.contains(id));
+    }
+
+    void clear(){
+        entries.clear();
+    }
+}
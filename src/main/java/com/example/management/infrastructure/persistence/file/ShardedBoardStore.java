@@ -0,0 +1,107 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class ShardedBoardStore {
+
+    private static final Path ROOT = Paths.get("data", "boards");
+
+    private final ConcurrentMap<Long, BoardShard> shards = new ConcurrentHashMap<>();
+    private LogStore columnLocator;
+    private LogStore taskLocator;
+    private IdSequence columnIdSequence;
+    private IdSequence taskIdSequence;
+
+    public ShardedBoardStore(){
+        try{
+            Files.createDirectories(ROOT);
+            columnLocator = new LogStore(ROOT.resolve("columns.locator.log"));
+            taskLocator = new LogStore(ROOT.resolve("tasks.locator.log"));
+            columnIdSequence = new IdSequence(ROOT.resolve("columns"), columnLocator.maxId());
+            taskIdSequence = new IdSequence(ROOT.resolve("tasks"), taskLocator.maxId());
+
+        } catch (IOException e) {
+            System.out.println("Error trying to load sharded store in directory: "+ROOT);
+        }
+    }
+
+    BoardShard shard(long boardId){
+        return shards.computeIfAbsent(boardId, id -> new BoardShard(ROOT.resolve(String.valueOf(id))));
+    }
+
+    Optional<BoardShard> findShard(long boardId){
+        BoardShard shard = shards.get(boardId);
+        if(shard != null) return Optional.of(shard);
+        if(!Files.isDirectory(ROOT.resolve(String.valueOf(boardId)))) return Optional.empty();
+        return Optional.of(shard(boardId));
+    }
+
+    long nextColumnId() throws IOException {
+        return columnIdSequence.next();
+    }
+
+    long nextTaskId() throws IOException {
+        return taskIdSequence.next();
+    }
+
+    OptionalLong findBoardIdByColumnId(long columnId) throws IOException {
+        return locate(columnLocator, columnId);
+    }
+
+    OptionalLong findBoardIdByTaskId(long taskId) throws IOException {
+        return locate(taskLocator, taskId);
+    }
+
+    void locateColumn(long columnId, long boardId) throws IOException {
+        columnLocator.put(columnId, String.valueOf(boardId));
+    }
+
+    void locateColumns(Map<Long, Long> boardIdsByColumnId) throws IOException {
+        Map<Long, String> rows = new LinkedHashMap<>();
+        boardIdsByColumnId.forEach((columnId, boardId) -> rows.put(columnId, String.valueOf(boardId)));
+        columnLocator.putAll(rows);
+    }
+
+    void locateTask(long taskId, long boardId) throws IOException {
+        taskLocator.put(taskId, String.valueOf(boardId));
+    }
+
+    void forgetTasks(Collection<Long> taskIds) throws IOException {
+        for(long taskId : taskIds){
+            taskLocator.delete(taskId);
+        }
+    }
+
+    void deleteBoard(long boardId) throws IOException {
+        Optional<BoardShard> found = findShard(boardId);
+        if(found.isEmpty()) return;
+
+        BoardShard shard = found.get();
+        List<Long> columnIds = shard.findColumns().stream().map(ColumnRecord::id).toList();
+        List<Long> taskIds = shard.findTasks().stream().map(TaskRecord::id).toList();
+
+        shard.delete();
+        shards.remove(boardId);
+
+        for(long columnId : columnIds){
+            columnLocator.delete(columnId);
+        }
+        forgetTasks(taskIds);
+    }
+
+    private OptionalLong locate(LogStore locator, long id) throws IOException {
+        Optional<String> boardId = locator.get(id);
+        return boardId.isPresent() ? OptionalLong.of(Long.parseLong(boardId.get())) : OptionalLong.empty();
+    }
+}
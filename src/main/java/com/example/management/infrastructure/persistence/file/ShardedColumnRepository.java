@@ -0,0 +1,110 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Board;
+import com.example.management.core.domain.Column;
+import com.example.management.infrastructure.persistence.BoardRepository;
+import com.example.management.infrastructure.persistence.ColumnRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+public class ShardedColumnRepository implements ColumnRepository, EntityDeletionListener {
+
+    private final ShardedBoardStore store;
+    private final BoardRepository boardRepository;
+
+    public ShardedColumnRepository(BoardRepository boardRepository, ShardedBoardStore store) {
+        this.boardRepository = boardRepository;
+        this.store = store;
+    }
+
+    @Override
+    public void save(Column column) {
+        try{
+            boolean isNew = column.getId() == null;
+            if(isNew){
+                column.setId(store.nextColumnId());
+            }
+
+            ColumnRecord record = ColumnRecord.fromColumn(column);
+            store.shard(record.boardId()).saveColumn(record);
+            if(isNew) store.locateColumn(record.id(), record.boardId());
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save column in shard of board: "+column.getBoard().getId());
+        }
+    }
+
+    @Override
+    public void saveAll(List<Column> columns) {
+        try{
+            Map<Long, List<ColumnRecord>> recordsByBoard = new LinkedHashMap<>();
+            Map<Long, Long> newColumns = new LinkedHashMap<>();
+            for(Column column : columns){
+                if(column.getId() == null){
+                    column.setId(store.nextColumnId());
+                    newColumns.put(column.getId(), column.getBoard().getId());
+                }
+                ColumnRecord record = ColumnRecord.fromColumn(column);
+                recordsByBoard.computeIfAbsent(record.boardId(), boardId -> new ArrayList<>()).add(record);
+            }
+
+            for(Map.Entry<Long, List<ColumnRecord>> entry : recordsByBoard.entrySet()){
+                store.shard(entry.getKey()).saveColumns(entry.getValue());
+            }
+            store.locateColumns(newColumns);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save columns in sharded store");
+        }
+    }
+
+    @Override
+    public Optional<Column> findById(long id) {
+        return findById(id, new IdentityMap());
+    }
+
+    Optional<Column> findById(long id, IdentityMap identityMap) {
+        try{
+            OptionalLong boardId = store.findBoardIdByColumnId(id);
+            if(boardId.isEmpty()) return Optional.empty();
+
+            return store.findShard(boardId.getAsLong())
+                    .flatMap(shard -> shard.findColumn(id))
+                    .map(record -> toColumn(record, identityMap));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find column by ID in sharded store: "+id);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Column> findAllByBoardId(long boardId) {
+        IdentityMap identityMap = new IdentityMap();
+        return store.findShard(boardId).map(BoardShard::findColumns).orElse(List.of()).stream()
+                .map(record -> toColumn(record, identityMap))
+                .toList();
+    }
+
+    private Column toColumn(ColumnRecord record, IdentityMap identityMap) {
+        Board board = identityMap.board(record.boardId(), boardRepository::findById);
+        return new Column(record.id(), board, record.type());
+    }
+
+    @Override
+    public void onEntityDeleted(long deletedEntityId) {
+        System.out.println("SHARDED COLUMN REPOSITORY NOTIFICATION: Board ID["+ deletedEntityId +"] deleted... Removing its shard directory.");
+        try{
+            store.deleteBoard(deletedEntityId);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to delete shard of board: "+deletedEntityId);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+import com.example.management.infrastructure.persistence.TaskRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+public class ShardedTaskRepository implements TaskRepository {
+
+    private final ShardedBoardStore store;
+    private final ShardedColumnRepository shardedColumnRepository;
+
+    public ShardedTaskRepository(ShardedColumnRepository shardedColumnRepository, ShardedBoardStore store) {
+        this.shardedColumnRepository = shardedColumnRepository;
+        this.store = store;
+    }
+
+    @Override
+    public Task save(Task task) {
+        try{
+            OptionalLong previousBoardId = task.getId() == null ? OptionalLong.empty() : store.findBoardIdByTaskId(task.getId());
+            if(task.getId() == null){
+                task.setId(store.nextTaskId());
+            }
+
+            TaskRecord record = TaskRecord.fromTask(task);
+
+            long boardId = store.findBoardIdByColumnId(record.columnId()).orElseThrow();
+            store.shard(boardId).saveTask(record);
+
+            if(previousBoardId.isEmpty() || previousBoardId.getAsLong() != boardId){
+                Optional<BoardShard> previousShard = previousBoardId.isPresent() ? store.findShard(previousBoardId.getAsLong()) : Optional.empty();
+                if(previousShard.isPresent()) previousShard.get().deleteTasks(List.of(record.id()));
+                store.locateTask(record.id(), boardId);
+            }
+
+        } catch (IOException e) {
+            System.out.println("Error trying to save task in sharded store: "+task.getId());
+        }
+        return task;
+    }
+
+    @Override
+    public Optional<Task> findById(long id) {
+        try{
+            OptionalLong boardId = store.findBoardIdByTaskId(id);
+            if(boardId.isEmpty()) return Optional.empty();
+
+            return store.findShard(boardId.getAsLong())
+                    .flatMap(shard -> shard.findTask(id))
+                    .map(record -> toTask(record, new IdentityMap()));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find task by ID in sharded store: "+id);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public OptionalLong findBoardIdById(long id) {
+        try{
+            return store.findBoardIdByTaskId(id);
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find board ID by task ID in sharded store: "+id);
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        try{
+            OptionalLong boardId = store.findBoardIdByTaskId(id);
+            return boardId.isPresent() && store.findShard(boardId.getAsLong())
+                    .flatMap(shard -> shard.findTask(id))
+                    .isPresent();
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find task by ID in sharded store: "+id);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean existsByTitleInBoard(String title, long boardId) {
+        return store.findShard(boardId).map(shard -> shard.existsByTitle(title)).orElse(false);
+    }
+
+    @Override
+    public boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id) {
+        return store.findShard(boardId).map(shard -> shard.existsByTitleAndIdNot(title, id)).orElse(false);
+    }
+
+    @Override
+    public List<Task> findAllByBoardId(long boardId) {
+        return toTasks(store.findShard(boardId).map(BoardShard::findTasks).orElse(List.of()));
+    }
+
+    @Override
+    public List<Task> findAllByColumnId(long columnId) {
+        try{
+            OptionalLong boardId = store.findBoardIdByColumnId(columnId);
+            if(boardId.isEmpty()) return List.of();
+
+            return toTasks(store.findShard(boardId.getAsLong())
+                    .map(shard -> shard.findTasksByColumnId(columnId))
+                    .orElse(List.of()));
+
+        } catch (IOException e) {
+            System.out.println("Error trying to find tasks by column ID in sharded store: "+columnId);
+        }
+        return List.of();
+    }
+
+    @Override
+    public void deleteById(long id) {
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> ids) {
+        try{
+            Map<Long, List<Long>> idsByBoard = new HashMap<>();
+            for(long id : ids){
+                OptionalLong boardId = store.findBoardIdByTaskId(id);
+                if(boardId.isPresent()) idsByBoard.computeIfAbsent(boardId.getAsLong(), key -> new ArrayList<>()).add(id);
+            }
+
+            for(Map.Entry<Long, List<Long>> entry : idsByBoard.entrySet()){
+                Optional<BoardShard> shard = store.findShard(entry.getKey());
+                if(shard.isPresent()) shard.get().deleteTasks(entry.getValue());
+                store.forgetTasks(entry.getValue());
+            }
+
+        } catch (IOException e) {
+            System.out.println("Error trying to delete tasks in sharded store: "+ids);
+        }
+    }
+
+    private List<Task> toTasks(List<TaskRecord> records){
+        IdentityMap identityMap = new IdentityMap();
+        return records.stream().map(record -> toTask(record, identityMap)).toList();
+    }
+
+    private Task toTask(TaskRecord record, IdentityMap identityMap){
+        Column column = identityMap.column(record.columnId(), id -> shardedColumnRepository.findById(id, identityMap));
+        return record.toTask(column);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.management.infrastructure.persistence.file;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+public class StorageConfig {
+
+    private static final String PROPERTIES_FILE = "storage.properties";
+
+    private static final DurabilityPolicy durability;
+    private static final long intervalMillis;
+
+    static {
+        try (InputStream input = StorageConfig.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+
+            Properties props = new Properties();
+            if(input != null) props.load(input);
+
+            durability = DurabilityPolicy.valueOf(props.getProperty("storage.durability", "EVERY_WRITE").trim().toUpperCase());
+            intervalMillis = Long.parseLong(props.getProperty("storage.durability.interval-ms", "50").trim());
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException("Error loading storage configuration");
+        }
+    }
+
+    public static DurabilityPolicy getDurability() {
+        return durability;
+    }
+
+    public static long getIntervalMillis() {
+        return intervalMillis;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.management.infrastructure.persistence.file;
+
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+record TaskRecord(long id,
+                  String title,
+                  String description,
+                  LocalDate dueDate,
+                  boolean blocked,
+                  LocalDateTime createdAt,
+                  long columnId) {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE;
+
+    static TaskRecord fromCursor(CsvCursor cursor){
+        return new TaskRecord(
+                cursor.longField(0),
+                cursor.string(1),
+                cursor.string(2),
+                cursor.dateField(3),
+                cursor.booleanField(4),
+                cursor.dateTimeField(5),
+                cursor.longField(6));
+    }
+
+    static TaskRecord fromTask(Task task){
+        return new TaskRecord(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getDueDate(),
+                task.isBlocked(),
+                task.getCreatedAt(),
+                task.getColumn().getId());
+    }
+
+    String toRow(){
+        return id + ";" + title + ";" + description + ";" + dueDate.format(DATE_FORMATTER) + ";"
+                + blocked + ";" + createdAt.format(DATE_TIME_FORMATTER) + ";" + columnId;
+    }
+
+    Task toTask(Column column){
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setDueDate(dueDate);
+        task.setBlocked(blocked);
+        task.setCreatedAt(createdAt);
+        task.setColumn(column);
+        return task;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.management.infrastructure.persistence.memory;
+
+import com.example.management.infrastructure.collection.LongObjectMap;
+import com.example.management.infrastructure.collection.LongSet;
+
+class IdBuckets {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final LongObjectMap<LongSet> idsByKey = new LongObjectMap<>();
+
+    void add(long key, long id){
+        LongSet ids = idsByKey.get(key);
+        if(ids == null){
+            ids = new LongSet();
+            idsByKey.put(key, ids);
+        }
+        ids.add(id);
+    }
+
+    void remove(long key, long id){
+        LongSet ids = idsByKey.get(key);
+        if(ids == null) return;
+        ids.remove(id);
+        if(ids.isEmpty()) idsByKey.remove(key);
+    }
+
+    long[] get(long key){
+        LongSet ids = idsByKey.get(key);
+        return ids == null ? EMPTY : ids.toSortedArray();
+    }
+}
@@ -1,56 +1,148 @@
 package com.example.management.infrastructure.persistence.memory;
 
 import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardGraph;
+import com.example.management.core.domain.BoardSummary;
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+import com.example.management.core.enums.ColumnType;
+import com.example.management.infrastructure.persistence.BoardGraphRepository;
 import com.example.management.infrastructure.persistence.BoardRepository;
+import com.example.management.infrastructure.persistence.BoardSummaryRepository;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.BoardRow;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.ColumnRow;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.TaskRow;
 
 import java.util.*;
 
-public class InMemoryBoardRepository implements BoardRepository {
+public class InMemoryBoardRepository implements BoardRepository, BoardGraphRepository, BoardSummaryRepository {
 
-    private final Map<Long, Board> storage = new HashMap<>();
-    private long nextId = 1;
+    private final InMemoryStore store;
+
+    public InMemoryBoardRepository(InMemoryStore store) {
+        this.store = store;
+    }
 
     @Override
     public Board save(Board board){
         if(board.getId() == null){
-            board.setId(nextId++);
+            board.setId(store.nextBoardId());
         }
-        storage.put(board.getId(), board);
+        BoardRow row = BoardRow.of(board);
+        store.update(snapshot -> snapshot.putBoard(row));
         return board;
     }
 
     @Override
     public boolean existsById(long id) {
-        return storage.values().stream().
-                anyMatch(b -> b.getId().equals(id));
+        return store.snapshot().boards().containsKey(id);
     }
 
     @Override
     public boolean existsByTitle(String title){
-        return storage.values().stream()
-                .anyMatch(b -> b.getTitle().equalsIgnoreCase(title));
+        return store.snapshot().boards().values().stream()
+                .anyMatch(b -> b.title().equalsIgnoreCase(title));
     }
 
     @Override
     public boolean existsByTitleAndIdNot(String title, long id) {
-        return storage.values().stream()
-                .anyMatch(b -> b.getTitle().equalsIgnoreCase(title) && !b.getId().equals(id));
+        return store.snapshot().boards().values().stream()
+                .anyMatch(b -> b.title().equalsIgnoreCase(title) && b.id() != id);
     }
 
     @Override
     public List<Board> getAll(){
-        return storage.values().stream().sorted(Comparator.comparingLong(Board::getId)).toList();
+        MemorySnapshot snapshot = store.snapshot();
+        return snapshot.boards().values().stream()
+                .sorted(Comparator.comparingLong(BoardRow::id))
+                .map(snapshot::toBoard)
+                .toList();
+    }
+
+    @Override
+    public List<Board> getAll(long afterId, int limit){
+        MemorySnapshot snapshot = store.snapshot();
+        return page(snapshot, afterId, limit).stream()
+                .map(snapshot::toBoard)
+                .toList();
     }
 
     @Override
     public Optional<Board> findById(long id) {
-        return storage.values().stream()
-                .filter(b -> b.getId().equals(id))
-                .findFirst();
+        MemorySnapshot snapshot = store.snapshot();
+        return Optional.ofNullable(snapshot.boards().get(id)).map(snapshot::toBoard);
     }
 
     @Override
     public void deleteById(long id) {
-        storage.remove(id);
+        store.update(snapshot -> snapshot.boards().containsKey(id) ? snapshot.removeBoard(id) : snapshot);
+    }
+
+    @Override
+    public Optional<BoardGraph> loadBoardGraph(long boardId) {
+        MemorySnapshot snapshot = store.snapshot();
+        BoardRow boardRow = snapshot.boards().get(boardId);
+        if(boardRow == null) return Optional.empty();
+
+        Board board = snapshot.toBoard(boardRow);
+        Map<Long, Board> boards = new HashMap<>(Map.of(boardId, board));
+        Map<Long, Column> columnsById = new HashMap<>();
+        List<Column> columns = new ArrayList<>();
+        Map<Long, List<Task>> tasksByColumnId = new LinkedHashMap<>();
+
+        for(ColumnRow columnRow : snapshot.columnsOfBoard(boardId)){
+            Column column = snapshot.toColumn(columnRow, boards);
+            columnsById.put(column.getId(), column);
+            columns.add(column);
+
+            List<Task> tasks = new ArrayList<>();
+            for(TaskRow taskRow : snapshot.tasksOfColumn(columnRow.id())){
+                tasks.add(snapshot.toTask(taskRow, columnsById, boards));
+            }
+            tasksByColumnId.put(column.getId(), tasks);
+        }
+        return Optional.of(new BoardGraph(board, columns, tasksByColumnId));
+    }
+
+    @Override
+    public List<BoardSummary> findAllSummaries() {
+        MemorySnapshot snapshot = store.snapshot();
+        return snapshot.boards().values().stream()
+                .sorted(Comparator.comparingLong(BoardRow::id))
+                .map(row -> toSummary(snapshot, row))
+                .toList();
+    }
+
+    @Override
+    public List<BoardSummary> findAllSummaries(long afterId, int limit) {
+        MemorySnapshot snapshot = store.snapshot();
+        return page(snapshot, afterId, limit).stream()
+                .map(row -> toSummary(snapshot, row))
+                .toList();
+    }
+
+    @Override
+    public Optional<BoardSummary> findSummaryById(long boardId) {
+        MemorySnapshot snapshot = store.snapshot();
+        return Optional.ofNullable(snapshot.boards().get(boardId)).map(row -> toSummary(snapshot, row));
+    }
+
+    private List<BoardRow> page(MemorySnapshot snapshot, long afterId, int limit){
+        return snapshot.boards().values().stream()
+                .filter(row -> row.id() > afterId)
+                .sorted(Comparator.comparingLong(BoardRow::id))
+                .limit(limit)
+                .toList();
+    }
+
+    private BoardSummary toSummary(MemorySnapshot snapshot, BoardRow row){
+        int totalTasks = 0;
+        int doneTasks = 0;
+        for(ColumnRow column : snapshot.columnsOfBoard(row.id())){
+            int taskCount = MemorySnapshot.bucketSize(snapshot.tasksByColumn(), column.id());
+            totalTasks += taskCount;
+            if(column.type() == ColumnType.DONE) doneTasks += taskCount;
+        }
+        return new BoardSummary(row.id(), row.title(), totalTasks, doneTasks);
     }
 }
@@ -1,38 +1,61 @@
 package com.example.management.infrastructure.persistence.memory;
 
+import com.example.management.core.domain.Board;
 import com.example.management.core.domain.Column;
 import com.example.management.infrastructure.persistence.ColumnRepository;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.ColumnRow;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class InMemoryColumnRepository implements ColumnRepository {
 
-    private final Map<Long, Column> storage = new HashMap<>();
-    private long nextId = 1;
+    private final InMemoryStore store;
+
+    public InMemoryColumnRepository(InMemoryStore store) {
+        this.store = store;
+    }
 
     @Override
     public void save(Column column) {
         if(column.getId() == null){
-            column.setId(nextId++);
+            column.setId(store.nextColumnId());
         }
-        storage.put(column.getId(), column);
+        ColumnRow row = ColumnRow.of(column);
+        store.update(snapshot -> snapshot.putColumn(row));
+    }
+
+    @Override
+    public void saveAll(List<Column> columns) {
+        List<ColumnRow> rows = columns.stream()
+                .peek(column -> {
+                    if(column.getId() == null) column.setId(store.nextColumnId());
+                })
+                .map(ColumnRow::of)
+                .toList();
+        store.update(snapshot -> {
+            MemorySnapshot next = snapshot;
+            for(ColumnRow row : rows){
+                next = next.putColumn(row);
+            }
+            return next;
+        });
     }
 
     @Override
     public Optional<Column> findById(long id) {
-        return storage.values().stream()
-                .filter(col -> col.getId().equals(id))
-                .findFirst();
+        MemorySnapshot snapshot = store.snapshot();
+        return Optional.ofNullable(snapshot.columns().get(id)).map(row -> snapshot.toColumn(row, new HashMap<>()));
     }
 
     @Override
     public List<Column> findAllByBoardId(long boardId) {
-        return storage.values().stream()
-                .filter(col -> col.getBoard().getId().equals(boardId))
-                .collect(Collectors.toList());
+        MemorySnapshot snapshot = store.snapshot();
+        Map<Long, Board> boards = new HashMap<>();
+        return snapshot.columnsOfBoard(boardId).stream()
+                .map(row -> snapshot.toColumn(row, boards))
+                .toList();
     }
 }
@@ -0,0 +1,60 @@
+package com.example.management.infrastructure.persistence.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class InMemoryStore {
+
+    private final AtomicReference<MemorySnapshot> current = new AtomicReference<>(MemorySnapshot.EMPTY);
+    private final ThreadLocal<MemorySnapshot> pinned = new ThreadLocal<>();
+    private final Object writeMutex = new Object();
+    private final AtomicLong nextBoardId = new AtomicLong(1);
+    private final AtomicLong nextColumnId = new AtomicLong(1);
+    private final AtomicLong nextTaskId = new AtomicLong(1);
+
+    public <T> T readConsistent(Supplier<T> reader){
+        if(pinned.get() != null) return reader.get();
+
+        pinned.set(current.get());
+        try{
+            return reader.get();
+        } finally {
+            pinned.remove();
+        }
+    }
+
+    public long getVersion(){
+        return snapshot().version();
+    }
+
+    MemorySnapshot snapshot(){
+        MemorySnapshot snapshot = pinned.get();
+        return snapshot != null ? snapshot : current.get();
+    }
+
+    void update(UnaryOperator<MemorySnapshot> change){
+        synchronized(writeMutex){
+            MemorySnapshot base = current.get();
+            MemorySnapshot next = change.apply(base);
+            if(next == base) return;
+
+            next = next.withVersion(base.version() + 1);
+            current.set(next);
+            if(pinned.get() != null) pinned.set(next);
+        }
+    }
+
+    long nextBoardId(){
+        return nextBoardId.getAndIncrement();
+    }
+
+    long nextColumnId(){
+        return nextColumnId.getAndIncrement();
+    }
+
+    long nextTaskId(){
+        return nextTaskId.getAndIncrement();
+    }
+}
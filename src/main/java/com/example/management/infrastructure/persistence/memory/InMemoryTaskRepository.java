@@ -1,68 +1,110 @@
 package com.example.management.infrastructure.persistence.memory;
 
+import com.example.management.core.domain.Board;
+import com.example.management.core.domain.Column;
 import com.example.management.core.domain.Task;
+import com.example.management.infrastructure.collection.LongSet;
+import com.example.management.infrastructure.collection.PersistentLongMap;
 import com.example.management.infrastructure.persistence.TaskRepository;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.TaskRow;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public class InMemoryTaskRepository implements TaskRepository {
 
-    private final Map<Long, Task> storage = new HashMap<>();
-    private long nextId = 1;
+    private final InMemoryStore store;
+
+    public InMemoryTaskRepository(InMemoryStore store) {
+        this.store = store;
+    }
 
     @Override
     public Task save(Task task){
         if(task.getId() == null){
-            task.setId(nextId++);
+            task.setId(store.nextTaskId());
         }
-        storage.put(task.getId(), task);
+        TaskRow row = TaskRow.of(task);
+        store.update(snapshot -> snapshot.putTask(row));
         return task;
     }
 
     @Override
     public Optional<Task> findById(long id) {
-        return storage.values().stream()
-                .filter(task -> task.getId().equals(id))
-                .findFirst();
+        MemorySnapshot snapshot = store.snapshot();
+        return Optional.ofNullable(snapshot.tasks().get(id))
+                .map(row -> snapshot.toTask(row, new HashMap<>(), new HashMap<>()));
+    }
+
+    @Override
+    public OptionalLong findBoardIdById(long id) {
+        TaskRow row = store.snapshot().tasks().get(id);
+        return row == null ? OptionalLong.empty() : OptionalLong.of(row.boardId());
     }
 
     @Override
     public boolean existsById(long id) {
-        return storage.values().stream()
-                .anyMatch(task -> task.getId().equals(id));
+        return store.snapshot().tasks().containsKey(id);
     }
 
     @Override
     public boolean existsByTitleInBoard(String title, long boardId) {
-        return findAllByBoardId(boardId).stream()
-                .anyMatch(task -> task.getTitle().equalsIgnoreCase(title));
+        MemorySnapshot snapshot = store.snapshot();
+        return snapshot.tasksOfBoard(boardId).stream()
+                .anyMatch(row -> row.title().equalsIgnoreCase(title));
     }
 
     @Override
     public boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id) {
-        return findAllByBoardId(boardId).stream()
-                .anyMatch(task -> task.getTitle().equalsIgnoreCase(title) && !task.getId().equals(id));
+        MemorySnapshot snapshot = store.snapshot();
+        return snapshot.tasksOfBoard(boardId).stream()
+                .anyMatch(row -> row.title().equalsIgnoreCase(title) && row.id() != id);
     }
 
     @Override
     public List<Task> findAllByBoardId(long boardId) {
-        return storage.values().stream()
-                .filter(task -> task.getColumn().getBoard().getId().equals(boardId))
-                .toList();
+        MemorySnapshot snapshot = store.snapshot();
+        return toTasks(snapshot, snapshot.tasksOfBoard(boardId));
     }
 
     @Override
     public List<Task> findAllByColumnId(long columnId) {
-        return storage.values().stream()
-                .filter(task -> task.getColumn().getId().equals(columnId))
-                .toList();
+        MemorySnapshot snapshot = store.snapshot();
+        return toTasks(snapshot, snapshot.tasksOfColumn(columnId));
+    }
+
+    @Override
+    public List<Task> findAllByBoardId(long boardId, long afterId, int limit) {
+        MemorySnapshot snapshot = store.snapshot();
+        return toTasks(snapshot, page(snapshot, snapshot.tasksByBoard(), boardId, afterId, limit));
+    }
+
+    @Override
+    public List<Task> findAllByColumnId(long columnId, long afterId, int limit) {
+        MemorySnapshot snapshot = store.snapshot();
+        return toTasks(snapshot, page(snapshot, snapshot.tasksByColumn(), columnId, afterId, limit));
     }
 
     @Override
     public void deleteById(long id) {
-        storage.remove(id);
+        store.update(snapshot -> snapshot.removeTask(id));
+    }
+
+    private List<TaskRow> page(MemorySnapshot snapshot, PersistentLongMap<LongSet> buckets, long key, long afterId, int limit){
+        long[] ids = MemorySnapshot.bucketIds(buckets, key);
+        int from = Arrays.binarySearch(ids, afterId);
+        from = from < 0 ? -from - 1 : from + 1;
+        int to = (int) Math.min(ids.length, (long) from + Math.max(limit, 0));
+        return MemorySnapshot.rows(snapshot.tasks(), Arrays.copyOfRange(ids, from, to));
+    }
+
+    private List<Task> toTasks(MemorySnapshot snapshot, List<TaskRow> rows){
+        Map<Long, Column> columns = new HashMap<>();
+        Map<Long, Board> boards = new HashMap<>();
+        return rows.stream().map(row -> snapshot.toTask(row, columns, boards)).toList();
     }
 }
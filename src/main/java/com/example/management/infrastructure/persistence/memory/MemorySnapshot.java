@@ -0,0 +1,176 @@
+package com.example.management.infrastructure.persistence.memory;
+
+import com.example.management.core.domain.Board;
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+import com.example.management.core.enums.ColumnType;
+import com.example.management.infrastructure.collection.LongSet;
+import com.example.management.infrastructure.collection.PersistentLongMap;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+record MemorySnapshot(long version,
+                      PersistentLongMap<BoardRow> boards,
+                      PersistentLongMap<ColumnRow> columns,
+                      PersistentLongMap<TaskRow> tasks,
+                      PersistentLongMap<LongSet> columnsByBoard,
+                      PersistentLongMap<LongSet> tasksByBoard,
+                      PersistentLongMap<LongSet> tasksByColumn) {
+
+    static final MemorySnapshot EMPTY = new MemorySnapshot(0, PersistentLongMap.empty(), PersistentLongMap.empty(),
+            PersistentLongMap.empty(), PersistentLongMap.empty(), PersistentLongMap.empty(), PersistentLongMap.empty());
+
+    record BoardRow(long id, String title, LocalDateTime createdAt) {
+        static BoardRow of(Board board){
+            return new BoardRow(board.getId(), board.getTitle(), board.getCreatedAt());
+        }
+    }
+
+    record ColumnRow(long id, long boardId, ColumnType type) {
+        static ColumnRow of(Column column){
+            return new ColumnRow(column.getId(), column.getBoard().getId(), column.getType());
+        }
+    }
+
+    record TaskRow(long id, String title, String description, LocalDate dueDate, boolean blocked,
+                   LocalDateTime createdAt, long columnId, long boardId) {
+        static TaskRow of(Task task){
+            return new TaskRow(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                    task.isBlocked(), task.getCreatedAt(), task.getColumn().getId(), task.getColumn().getBoard().getId());
+        }
+    }
+
+    MemorySnapshot withVersion(long version){
+        return new MemorySnapshot(version, boards, columns, tasks, columnsByBoard, tasksByBoard, tasksByColumn);
+    }
+
+    MemorySnapshot putBoard(BoardRow row){
+        return new MemorySnapshot(version, boards.plus(row.id(), row), columns, tasks, columnsByBoard, tasksByBoard, tasksByColumn);
+    }
+
+    MemorySnapshot removeBoard(long id){
+        return new MemorySnapshot(version, boards.minus(id), columns, tasks, columnsByBoard, tasksByBoard, tasksByColumn);
+    }
+
+    MemorySnapshot putColumn(ColumnRow row){
+        PersistentLongMap<LongSet> byBoard = columnsByBoard;
+        ColumnRow previous = columns.get(row.id());
+        if(previous == null || previous.boardId() != row.boardId()){
+            if(previous != null) byBoard = without(byBoard, previous.boardId(), row.id());
+            byBoard = with(byBoard, row.boardId(), row.id());
+        }
+
+        return new MemorySnapshot(version, boards, columns.plus(row.id(), row), tasks, byBoard, tasksByBoard, tasksByColumn);
+    }
+
+    MemorySnapshot putTask(TaskRow row){
+        PersistentLongMap<LongSet> byBoard = tasksByBoard;
+        PersistentLongMap<LongSet> byColumn = tasksByColumn;
+        TaskRow previous = tasks.get(row.id());
+        if(previous == null || previous.boardId() != row.boardId()){
+            if(previous != null) byBoard = without(byBoard, previous.boardId(), row.id());
+            byBoard = with(byBoard, row.boardId(), row.id());
+        }
+        if(previous == null || previous.columnId() != row.columnId()){
+            if(previous != null) byColumn = without(byColumn, previous.columnId(), row.id());
+            byColumn = with(byColumn, row.columnId(), row.id());
+        }
+
+        return new MemorySnapshot(version, boards, columns, tasks.plus(row.id(), row), columnsByBoard, byBoard, byColumn);
+    }
+
+    MemorySnapshot removeTask(long id){
+        TaskRow previous = tasks.get(id);
+        if(previous == null) return this;
+
+        return new MemorySnapshot(version, boards, columns, tasks.minus(id), columnsByBoard,
+                without(tasksByBoard, previous.boardId(), id),
+                without(tasksByColumn, previous.columnId(), id));
+    }
+
+    static long[] bucketIds(PersistentLongMap<LongSet> buckets, long key){
+        LongSet ids = buckets.get(key);
+        return ids == null ? new long[0] : ids.toSortedArray();
+    }
+
+    static int bucketSize(PersistentLongMap<LongSet> buckets, long key){
+        LongSet ids = buckets.get(key);
+        return ids == null ? 0 : ids.size();
+    }
+
+    static <R> List<R> rows(PersistentLongMap<R> rows, long[] ids){
+        List<R> result = new ArrayList<>(ids.length);
+        for(long id : ids){
+            result.add(rows.get(id));
+        }
+        return result;
+    }
+
+    List<ColumnRow> columnsOfBoard(long boardId){
+        return rows(columns, bucketIds(columnsByBoard, boardId));
+    }
+
+    List<TaskRow> tasksOfBoard(long boardId){
+        return rows(tasks, bucketIds(tasksByBoard, boardId));
+    }
+
+    List<TaskRow> tasksOfColumn(long columnId){
+        return rows(tasks, bucketIds(tasksByColumn, columnId));
+    }
+
+    Board toBoard(BoardRow row){
+        Board board = new Board();
+        board.setId(row.id());
+        board.setTitle(row.title());
+        board.setCreatedAt(row.createdAt());
+        return board;
+    }
+
+    Column toColumn(ColumnRow row, Map<Long, Board> boardCache){
+        Board board = boardCache.computeIfAbsent(row.boardId(), boardId -> {
+            BoardRow boardRow = boards.get(boardId);
+            if(boardRow != null) return toBoard(boardRow);
+            Board missing = new Board();
+            missing.setId(boardId);
+            return missing;
+        });
+        return new Column(row.id(), board, row.type());
+    }
+
+    Task toTask(TaskRow row, Map<Long, Column> columnCache, Map<Long, Board> boardCache){
+        Task task = new Task();
+        task.setId(row.id());
+        task.setTitle(row.title());
+        task.setDescription(row.description());
+        task.setDueDate(row.dueDate());
+        task.setBlocked(row.blocked());
+        task.setCreatedAt(row.createdAt());
+        task.setColumn(columnCache.computeIfAbsent(row.columnId(), columnId -> {
+            ColumnRow columnRow = columns.get(columnId);
+            return columnRow == null ? null : toColumn(columnRow, boardCache);
+        }));
+        return task;
+    }
+
+    // Published buckets are never mutated: a change copies the one affected set
+    private static PersistentLongMap<LongSet> with(PersistentLongMap<LongSet> buckets, long key, long id){
+        LongSet ids = buckets.get(key);
+        LongSet next = ids == null ? new LongSet() : ids.copy();
+        next.add(id);
+        return buckets.plus(key, next);
+    }
+
+    private static PersistentLongMap<LongSet> without(PersistentLongMap<LongSet> buckets, long key, long id){
+        LongSet ids = buckets.get(key);
+        if(ids == null || !ids.contains(id)) return buckets;
+        if(ids.size() == 1) return buckets.minus(key);
+
+        LongSet next = ids.copy();
+        next.remove(id);
+        return buckets.plus(key, next);
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.management.infrastructure.persistence.memory;
+
+import com.example.management.core.domain.Column;
+import com.example.management.core.domain.Task;
+import com.example.management.infrastructure.persistence.ColumnRepository;
+import com.example.management.infrastructure.persistence.TaskRepository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class OffHeapTaskRepository implements TaskRepository {
+
+    private static final int SLOT_SIZE = 72;
+    private static final int SLOTS_PER_CHUNK = 16_384;
+    private static final int TEXT_CHUNK_SIZE = 1 << 20;
+
+    private static final byte LIVE = 1;
+    private static final byte DELETED = 2;
+
+    private static final int STATE_OFFSET = 0;
+    private static final int BLOCKED_OFFSET = 1;
+    private static final int ID_OFFSET = 8;
+    private static final int COLUMN_ID_OFFSET = 16;
+    private static final int BOARD_ID_OFFSET = 24;
+    private static final int DUE_DATE_OFFSET = 32;
+    private static final int CREATED_AT_SECONDS_OFFSET = 40;
+    private static final int CREATED_AT_NANOS_OFFSET = 48;
+    private static final int TEXT_CHUNK_OFFSET = 52;
+    private static final int TEXT_POSITION_OFFSET = 56;
+    private static final int TITLE_LENGTH_OFFSET = 60;
+    private static final int DESCRIPTION_LENGTH_OFFSET = 64;
+    private static final int TEXT_CAPACITY_OFFSET = 68;
+
+    private final ColumnRepository columnRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ByteBuffer> slotChunks = new ArrayList<>();
+    private final List<ByteBuffer> textChunks = new ArrayList<>();
+    private final IdBuckets taskIdsByBoard = new IdBuckets();
+    private final IdBuckets taskIdsByColumn = new IdBuckets();
+    private int textChunkPosition;
+    private long highestId;
+
+    public OffHeapTaskRepository(ColumnRepository columnRepository) {
+        this.columnRepository = columnRepository;
+    }
+
+    @Override
+    public Task save(Task task) {
+        lock.writeLock().lock();
+        try{
+            if(task.getId() == null){
+                task.setId(highestId + 1);
+            }
+            if(task.getId() < 1 || task.getId() > highestId + SLOTS_PER_CHUNK){
+                throw new IllegalArgumentException("Task id "+task.getId()+" is out of range, highest id is "+highestId);
+            }
+            ensureCapacity(task.getId());
+
+            ByteBuffer slots = slots(task.getId());
+            int base = base(task.getId());
+            byte[] title = task.getTitle().getBytes(StandardCharsets.UTF_8);
+            byte[] description = task.getDescription() == null ? new byte[0] : task.getDescription().getBytes(StandardCharsets.UTF_8);
+            int textLength = title.length + description.length;
+
+            boolean live = slots.get(base + STATE_OFFSET) == LIVE;
+            if(live){
+                taskIdsByBoard.remove(slots.getLong(base + BOARD_ID_OFFSET), task.getId());
+                taskIdsByColumn.remove(slots.getLong(base + COLUMN_ID_OFFSET), task.getId());
+            }
+
+            if(!live || textLength > slots.getInt(base + TEXT_CAPACITY_OFFSET)){
+                allocateText(slots, base, textLength);
+            }
+            ByteBuffer text = textChunks.get(slots.getInt(base + TEXT_CHUNK_OFFSET));
+            int position = slots.getInt(base + TEXT_POSITION_OFFSET);
+            text.put(position, title).put(position + title.length, description);
+
+            long boardId = task.getColumn().getBoard().getId();
+            long columnId = task.getColumn().getId();
+            slots.putLong(base + ID_OFFSET, task.getId());
+            slots.putLong(base + COLUMN_ID_OFFSET, columnId);
+            slots.putLong(base + BOARD_ID_OFFSET, boardId);
+            slots.putLong(base + DUE_DATE_OFFSET, task.getDueDate().toEpochDay());
+            slots.putLong(base + CREATED_AT_SECONDS_OFFSET, task.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            slots.putInt(base + CREATED_AT_NANOS_OFFSET, task.getCreatedAt().getNano());
+            slots.putInt(base + TITLE_LENGTH_OFFSET, title.length);
+            slots.putInt(base + DESCRIPTION_LENGTH_OFFSET, description.length);
+            slots.put(base + BLOCKED_OFFSET, (byte) (task.isBlocked() ? 1 : 0));
+            slots.put(base + STATE_OFFSET, LIVE);
+
+            taskIdsByBoard.add(boardId, task.getId());
+            taskIdsByColumn.add(columnId, task.getId());
+            highestId = Math.max(highestId, task.getId());
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return task;
+    }
+
+    @Override
+    public Optional<Task> findById(long id) {
+        lock.readLock().lock();
+        try{
+            if(!isLive(id)) return Optional.empty();
+            return Optional.of(readTask(id, new HashMap<>()));
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        lock.readLock().lock();
+        try{
+            return isLive(id);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByTitleInBoard(String title, long boardId) {
+        return existsByTitle(title, boardId, 0);
+    }
+
+    @Override
+    public boolean existsByTitleInBoardAndIdNot(String title, long boardId, long id) {
+        return existsByTitle(title, boardId, id);
+    }
+
+    private boolean existsByTitle(String title, long boardId, long excludedId) {
+        byte[] titleBytes = title.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try{
+            for(long id : taskIdsByBoard.get(boardId)){
+                if(id != excludedId && titleEqualsIgnoreCase(id, title, titleBytes)) return true;
+            }
+            return false;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findAllByBoardId(long boardId) {
+        lock.readLock().lock();
+        try{
+            return readTasks(taskIdsByBoard.get(boardId));
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findAllByColumnId(long columnId) {
+        lock.readLock().lock();
+        try{
+            return readTasks(taskIdsByColumn.get(columnId));
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(long id) {
+        lock.writeLock().lock();
+        try{
+            if(!isLive(id)) return;
+
+            ByteBuffer slots = slots(id);
+            int base = base(id);
+            taskIdsByBoard.remove(slots.getLong(base + BOARD_ID_OFFSET), id);
+            taskIdsByColumn.remove(slots.getLong(base + COLUMN_ID_OFFSET), id);
+            slots.put(base + STATE_OFFSET, DELETED);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long getAllocatedBytes(){
+        lock.readLock().lock();
+        try{
+            long bytes = 0;
+            for(ByteBuffer chunk : slotChunks) bytes += chunk.capacity();
+            for(ByteBuffer chunk : textChunks) bytes += chunk.capacity();
+            return bytes;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isLive(long id){
+        return id >= 1 && id <= highestId && slots(id).get(base(id) + STATE_OFFSET) == LIVE;
+    }
+
+    private ByteBuffer slots(long id){
+        return slotChunks.get((int) ((id - 1) / SLOTS_PER_CHUNK));
+    }
+
+    private int base(long id){
+        return (int) ((id - 1) % SLOTS_PER_CHUNK) * SLOT_SIZE;
+    }
+
+    private boolean titleEqualsIgnoreCase(long id, String title, byte[] titleBytes){
+        ByteBuffer slots = slots(id);
+        int base = base(id);
+        ByteBuffer text = textChunks.get(slots.getInt(base + TEXT_CHUNK_OFFSET));
+        int position = slots.getInt(base + TEXT_POSITION_OFFSET);
+        int length = slots.getInt(base + TITLE_LENGTH_OFFSET);
+
+        if(length == titleBytes.length){
+            for(int i = 0; i < length; i++){
+                byte stored = text.get(position + i);
+                if(((stored | titleBytes[i]) & 0x80) != 0) return decodedTitleEquals(text, position, length, title);
+                if(stored != titleBytes[i] && foldAscii(stored) != foldAscii(titleBytes[i])) return false;
+            }
+            return true;
+        }
+
+        // Case folding keeps ASCII lengths, so only non-ASCII titles of different byte lengths can still match
+        for(int i = 0; i < length; i++){
+            if((text.get(position + i) & 0x80) != 0) return decodedTitleEquals(text, position, length, title);
+        }
+        for(byte b : titleBytes){
+            if((b & 0x80) != 0) return decodedTitleEquals(text, position, length, title);
+        }
+        return false;
+    }
+
+    private static byte foldAscii(byte b){
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private static boolean decodedTitleEquals(ByteBuffer text, int position, int length, String title){
+        byte[] stored = new byte[length];
+        text.get(position, stored);
+        return new String(stored, StandardCharsets.UTF_8).equalsIgnoreCase(title);
+    }
+
+    private void ensureCapacity(long id){
+        while((long) slotChunks.size() * SLOTS_PER_CHUNK < id){
+            slotChunks.add(ByteBuffer.allocateDirect(SLOTS_PER_CHUNK * SLOT_SIZE));
+        }
+    }
+
+    private void allocateText(ByteBuffer slots, int base, int length){
+        if(textChunks.isEmpty() || textChunkPosition + length > textChunks.get(textChunks.size() - 1).capacity()){
+            textChunks.add(ByteBuffer.allocateDirect(Math.max(TEXT_CHUNK_SIZE, length)));
+            textChunkPosition = 0;
+        }
+
+        slots.putInt(base + TEXT_CHUNK_OFFSET, textChunks.size() - 1);
+        slots.putInt(base + TEXT_POSITION_OFFSET, textChunkPosition);
+        slots.putInt(base + TEXT_CAPACITY_OFFSET, length);
+        textChunkPosition += length;
+    }
+
+    private List<Task> readTasks(long[] ids){
+        Map<Long, Column> columns = new HashMap<>();
+        List<Task> tasks = new ArrayList<>(ids.length);
+        for(long id : ids){
+            tasks.add(readTask(id, columns));
+        }
+        return tasks;
+    }
+
+    private Task readTask(long id, Map<Long, Column> columns){
+        ByteBuffer slots = slots(id);
+        int base = base(id);
+
+        ByteBuffer text = textChunks.get(slots.getInt(base + TEXT_CHUNK_OFFSET));
+        int position = slots.getInt(base + TEXT_POSITION_OFFSET);
+        byte[] title = new byte[slots.getInt(base + TITLE_LENGTH_OFFSET)];
+        byte[] description = new byte[slots.getInt(base + DESCRIPTION_LENGTH_OFFSET)];
+        text.get(position, title).get(position + title.length, description);
+
+        Task task = new Task();
+        task.setId(slots.getLong(base + ID_OFFSET));
+        task.setTitle(new String(title, StandardCharsets.UTF_8));
+        task.setDescription(new String(description, StandardCharsets.UTF_8));
+        task.setDueDate(LocalDate.ofEpochDay(slots.getLong(base + DUE_DATE_OFFSET)));
+        task.setBlocked(slots.get(base + BLOCKED_OFFSET) == 1);
+        task.setCreatedAt(LocalDateTime.ofEpochSecond(
+                slots.getLong(base + CREATED_AT_SECONDS_OFFSET),
+                slots.getInt(base + CREATED_AT_NANOS_OFFSET),
+                ZoneOffset.UTC));
+        task.setColumn(columns.computeIfAbsent(slots.getLong(base + COLUMN_ID_OFFSET),
+                columnId -> columnRepository.findById(columnId).orElseThrow()));
+        return task;
+    }
+}
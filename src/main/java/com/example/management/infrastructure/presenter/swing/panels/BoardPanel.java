@@ -1,6 +1,7 @@
 package com.example.management.infrastructure.presenter.swing.panels;
 
 import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardSummary;
 import com.example.management.core.dto.input.UpdateBoardInput;
 import com.example.management.core.dto.output.CompleteBoardOutput;
 import com.example.management.core.exception.DuplicateTitleException;
@@ -28,9 +29,14 @@ import static com.example.management.infrastructure.presenter.swing.util.Compone
 
 public class BoardPanel extends JPanel {
 
+    private static final int PAGE_SIZE = 50;
+
     private final MainFrame mainFrame;
     private JPanel selectedCard = null;
     private JPanel cardsPanel;
+    private JButton btnLoadMore;
+    private long lastBoardId = 0;
+    private boolean hasMoreBoards = false;
     private final InputUtils inputUtils;
 
     private final AppContext appContext;
@@ -50,7 +56,7 @@ public class BoardPanel extends JPanel {
         this.updateBoardUseCase = appContext.get(UpdateBoardUseCase.class);
         this.deleteBoardUseCase = appContext.get(DeleteBoardUseCase.class);
         this.inputUtils = new InputUtils(this);
-        this.boardMapper = new BoardMapper(completeBoardUseCase);
+        this.boardMapper = new BoardMapper();
 
         setLayout(new BorderLayout());
 
@@ -60,8 +66,9 @@ public class BoardPanel extends JPanel {
         JButton btnCreate = createCustomButton("Create Board", buttonSize, this::createBoard);
         JButton btnEdit = createCustomButton("Edit Board", buttonSize, this::editBoard);
         JButton btnDelete = createCustomButton("Delete Board", buttonSize, this::deleteBoard);
+        btnLoadMore = createCustomButton("Load More", buttonSize, this::loadMoreBoards);
 
-        List<JButton> buttons = List.of(btnAccess, btnCreate, btnEdit, btnDelete);
+        List<JButton> buttons = List.of(btnAccess, btnCreate, btnEdit, btnDelete, btnLoadMore);
 
         JPanel sidebar = createSidebarFromButtons(buttons, new Dimension(200, getHeight()));
         add(sidebar, BorderLayout.EAST);
@@ -74,13 +81,22 @@ public class BoardPanel extends JPanel {
 
     public void reloadBoards(){
         cardsPanel.removeAll();
+        selectedCard = null;
+        lastBoardId = 0;
+
+        loadMoreBoards();
+    }
 
-        List<Board> boards = boardGateway.getAll();
-        for (Board board : boards) {
+    private void loadMoreBoards(){
+        List<BoardSummary> boards = boardGateway.getAllSummaries(lastBoardId, PAGE_SIZE);
+        for (BoardSummary board : boards) {
             BoardResponse response = boardMapper.toDto(board);
             JPanel card = buildBoardCard(response);
             cardsPanel.add(card);
+            lastBoardId = board.id();
         }
+        hasMoreBoards = boards.size() == PAGE_SIZE;
+        btnLoadMore.setEnabled(hasMoreBoards);
 
         cardsPanel.revalidate();
         cardsPanel.repaint();
@@ -210,10 +226,13 @@ public class BoardPanel extends JPanel {
         } else{
             try{
                 Board board = createBoardUseCase.execute(title);
-                BoardResponse createdBoard = boardMapper.toDto(board);
+                if(hasMoreBoards) return;
+
+                BoardResponse createdBoard = boardMapper.toDto(new BoardSummary(board.getId(), board.getTitle(), 0, 0));
 
                 JPanel card = buildBoardCard(createdBoard);
                 cardsPanel.add(card);
+                lastBoardId = board.getId();
                 cardsPanel.revalidate();
                 cardsPanel.repaint();
 
@@ -238,8 +257,8 @@ public class BoardPanel extends JPanel {
 
         } else{
             try{
-                BoardResponse updatedBoard = boardMapper.toDto(updateBoardUseCase
-                        .execute(new UpdateBoardInput(id, newTitle)));
+                Board board = updateBoardUseCase.execute(new UpdateBoardInput(id, newTitle));
+                BoardResponse updatedBoard = boardMapper.toDto(boardGateway.findSummaryById(board.getId()));
 
                 selectedCard.putClientProperty("board", updatedBoard);
 
@@ -7,11 +7,9 @@ import com.example.management.core.dto.input.UpdateTaskInput;
 import com.example.management.core.dto.output.ColumnOutput;
 import com.example.management.core.dto.output.CompleteBoardOutput;
 import com.example.management.core.enums.ColumnType;
-import com.example.management.core.exception.DuplicateTitleException;
-import com.example.management.infrastructure.exception.EntityNotFoundException;
-import com.example.management.core.exception.InvalidDueDateException;
 import com.example.management.core.gateway.TaskGateway;
 import com.example.management.core.usecase.task.*;
+import com.example.management.infrastructure.actor.BoardActorRegistry;
 import com.example.management.infrastructure.config.AppContext;
 import com.example.management.infrastructure.dto.TaskResponse;
 import com.example.management.infrastructure.presenter.swing.MainFrame;
@@ -25,6 +23,9 @@ import java.awt.event.MouseEvent;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.example.management.infrastructure.presenter.swing.util.AppColors.*;
 import static com.example.management.infrastructure.presenter.swing.util.ComponentsFactory.createCustomButton;
@@ -46,6 +47,7 @@ public class TaskPanel extends JPanel {
     private final BlockTaskUseCase blockTaskUseCase;
     private final UnblockTaskUseCase unblockTaskUseCase;
     private final MoveTaskUseCase moveTaskUseCase;
+    private final BoardActorRegistry boardActorRegistry;
 
     public TaskPanel(MainFrame mainFrame, CompleteBoardOutput boardOutput, AppContext appContext) {
         this.appContext = appContext;
@@ -56,6 +58,7 @@ public class TaskPanel extends JPanel {
         this.blockTaskUseCase = appContext.get(BlockTaskUseCase.class);
         this.unblockTaskUseCase = appContext.get(UnblockTaskUseCase.class);
         this.moveTaskUseCase = appContext.get(MoveTaskUseCase.class);
+        this.boardActorRegistry = appContext.get(BoardActorRegistry.class);
 
         this.mainFrame = mainFrame;
         this.inputUtils = new InputUtils(this);
@@ -228,10 +231,8 @@ public class TaskPanel extends JPanel {
         dialog.setVisible(true);
 
         if(dialog.isConfirmed()){
-            try {
-                CreateTaskInput createTaskInput = dialog.getInput(column.id());
-                Task task = createTaskUseCase.execute(createTaskInput);
-
+            CreateTaskInput createTaskInput = dialog.getInput(column.id());
+            executeOnBoard(() -> createTaskUseCase.execute(createTaskInput), task -> {
                 JPanel taskCard = buildTaskCard(new TaskResponse(task.getId(),
                         task.getTitle(), task.getDescription(), task.getDueDate(),
                         task.isBlocked(), task.getColumn().getId()));
@@ -245,10 +246,7 @@ public class TaskPanel extends JPanel {
                 }
 
                 JOptionPane.showMessageDialog(this, "Task created successfully!");
-
-            }catch (DuplicateTitleException | InvalidDueDateException | EntityNotFoundException ex) {
-                inputUtils.showErrors("Error", ex.getMessage());
-            }
+            });
         }
     }
 
@@ -307,16 +305,15 @@ public class TaskPanel extends JPanel {
         dialog.setVisible(true);
 
         if(dialog.isConfirmed()){
-            try{
-                CreateTaskInput input = dialog.getInput(selectedTask.columnId());
-                UpdateTaskInput updateTaskInput = new UpdateTaskInput(
-                        selectedTask.id(),
-                        input.title(),
-                        input.description(),
-                        input.dueDate());
-
-                Task updatedTask = updateTaskUseCase.execute(updateTaskInput);
-
+            CreateTaskInput input = dialog.getInput(selectedTask.columnId());
+            UpdateTaskInput updateTaskInput = new UpdateTaskInput(
+                    selectedTask.id(),
+                    input.title(),
+                    input.description(),
+                    input.dueDate());
+
+            JPanel card = selectedTaskData;
+            executeOnBoard(() -> updateTaskUseCase.execute(updateTaskInput), updatedTask -> {
                 // Atualize a referência da task armazenada
                 TaskResponse updatedResponse = new TaskResponse(
                         updatedTask.getId(),
@@ -327,27 +324,22 @@ public class TaskPanel extends JPanel {
                         updatedTask.getColumn().getId()
                 );
 
-                selectedTaskData.putClientProperty("task", updatedResponse);
+                card.putClientProperty("task", updatedResponse);
 
                 // Atualize os campos visuais
-                JLabel titleLabel = (JLabel) selectedTaskData.getClientProperty("titleLabel");
-                JLabel descLabel = (JLabel) selectedTaskData.getClientProperty("titleLabel");
-                JLabel dueDateLabel = (JLabel) selectedTaskData.getClientProperty("dueDateLabel");
-                JLabel isBlockedLabel = (JLabel) selectedTaskData.getClientProperty("isBlockedLabel");
+                JLabel titleLabel = (JLabel) card.getClientProperty("titleLabel");
+                JLabel dueDateLabel = (JLabel) card.getClientProperty("dueDateLabel");
+                JLabel isBlockedLabel = (JLabel) card.getClientProperty("isBlockedLabel");
 
                 if (titleLabel != null) titleLabel.setText(updatedResponse.title());
                 if (dueDateLabel != null) dueDateLabel.setText("Due: " + updatedResponse.dueDate());
                 if (isBlockedLabel != null) isBlockedLabel.setText("Blocked: " + updatedResponse.blocked());
 
-                selectedTaskData.revalidate();
-                selectedTaskData.repaint();
+                card.revalidate();
+                card.repaint();
 
                 JOptionPane.showMessageDialog(this, "Task updated successfully!");
-
-            } catch (Exception e){
-                inputUtils.showErrors("Error", e.getMessage());
-            }
-
+            });
         }
     }
 
@@ -366,23 +358,19 @@ public class TaskPanel extends JPanel {
             return;
         }
 
-        try {
-            deleteTaskUseCase.execute(task.id());
-
+        JPanel card = selectedTaskData;
+        executeOnBoard(() -> deleteTaskUseCase.execute(task.id()), () -> {
             JPanel columnPanel = columnPanels.get(task.columnId());
-            if (columnPanel != null && selectedTaskData != null) {
-                columnPanel.remove(selectedTaskData);
+            if (columnPanel != null && card != null) {
+                columnPanel.remove(card);
                 columnPanel.revalidate();
                 columnPanel.repaint();
             }
 
-            selectedTaskData = null;
+            if (selectedTaskData == card) selectedTaskData = null;
 
             JOptionPane.showMessageDialog(this, "Task removed successfully!");
-
-        } catch (EntityNotFoundException ex) {
-            inputUtils.showErrors("Invalid ID", ex.getMessage());
-        }
+        });
     }
 
     private void blockTask() {
@@ -398,14 +386,12 @@ public class TaskPanel extends JPanel {
                 "Do you really want to block this task?");
         if (!confirm) return;
 
-        try {
-            blockTaskUseCase.execute(selectedTask.id());
+        JPanel card = selectedTaskData;
+        executeOnBoard(() -> blockTaskUseCase.execute(selectedTask.id()), () -> {
             JOptionPane.showMessageDialog(this, "Task blocked successfully!");
 
-            refreshTaskCard(selectedTaskData);
-        } catch (Exception e) {
-            inputUtils.showErrors("Error", e.getMessage());
-        }
+            refreshTaskCard(card);
+        });
     }
 
     private void unblockTask() {
@@ -420,14 +406,12 @@ public class TaskPanel extends JPanel {
                 "Do you really want to unblock this task?");
         if (!confirm) return;
 
-        try {
-            unblockTaskUseCase.execute(selectedTask.id());
+        JPanel card = selectedTaskData;
+        executeOnBoard(() -> unblockTaskUseCase.execute(selectedTask.id()), () -> {
             JOptionPane.showMessageDialog(this, "Task unblocked successfully!");
 
-            refreshTaskCard(selectedTaskData);
-        } catch (Exception e) {
-            inputUtils.showErrors("Error", e.getMessage());
-        }
+            refreshTaskCard(card);
+        });
     }
 
     private void moveTask() {
@@ -475,45 +459,42 @@ public class TaskPanel extends JPanel {
             return;
         }
 
-        try {
-            MoveTaskInput moveTaskInput = new MoveTaskInput(selectedTask.id(), targetColumn.id());
+        MoveTaskInput moveTaskInput = new MoveTaskInput(selectedTask.id(), targetColumn.id());
+        JPanel card = selectedTaskData;
+        executeOnBoard(() -> {
             moveTaskUseCase.execute(moveTaskInput);
-
+            return taskGateway.findById(selectedTask.id());
+        }, updated -> {
             // Remove do painel atual
             JPanel fromPanel = columnPanels.get(selectedTask.columnId());
             JPanel toPanel = columnPanels.get(targetColumn.id());
 
             if (fromPanel != null && toPanel != null) {
-                fromPanel.remove(selectedTaskData);
+                fromPanel.remove(card);
                 fromPanel.revalidate();
                 fromPanel.repaint();
 
                 toPanel.add(Box.createVerticalStrut(8));
-                toPanel.add(selectedTaskData);
+                toPanel.add(card);
                 toPanel.revalidate();
                 toPanel.repaint();
             }
 
             // Atualiza visual e referência
-            Task updated = taskGateway.findById(selectedTask.id());
             TaskResponse updatedTask = new TaskResponse(
                     updated.getId(), updated.getTitle(), updated.getDescription(),
                     updated.getDueDate(), updated.isBlocked(), updated.getColumn().getId()
             );
 
-            selectedTaskData.putClientProperty("task", updatedTask);
-            refreshTaskCard(selectedTaskData);
+            card.putClientProperty("task", updatedTask);
+            refreshTaskCard(card);
 
             JOptionPane.showMessageDialog(this, "Task moved to \"" + selectedOption + "\" column.");
-
-        } catch (Exception e) {
-            inputUtils.showErrors("Error", e.getMessage());
-        }
+        });
     }
 
     private void refreshTaskCard(JPanel card) {
-        TaskResponse original = getSelectedTaskData();
-        if (original == null) return;
+        if (!(card.getClientProperty("task") instanceof TaskResponse original)) return;
 
         Task updated = taskGateway.findById(original.id());
         for (Component comp : card.getComponents()) {
@@ -532,4 +513,24 @@ public class TaskPanel extends JPanel {
         card.repaint();
     }
 
+    private <T> void executeOnBoard(Supplier<T> action, Consumer<T> onSuccess){
+        boardActorRegistry.submit(boardOutput.id(), action)
+                .whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+                    if(error == null){
+                        onSuccess.accept(result);
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    inputUtils.showErrors("Error", cause.getMessage());
+                }));
+    }
+
+    private void executeOnBoard(Runnable action, Runnable onSuccess){
+        executeOnBoard(() -> {
+            action.run();
+            return null;
+        }, ignored -> onSuccess.run());
+    }
+
 }
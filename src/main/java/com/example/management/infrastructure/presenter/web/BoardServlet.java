@@ -1,11 +1,19 @@
 package com.example.management.infrastructure.presenter.web;
 
+import com.example.management.core.domain.BoardSummary;
 import com.example.management.core.dto.output.CompleteBoardOutput;
+import com.example.management.core.dto.output.TaskOutput;
+import com.example.management.core.gateway.BoardGateway;
+import com.example.management.core.gateway.TaskGateway;
 import com.example.management.core.usecase.board.CompleteBoardUseCase;
+import com.example.management.infrastructure.actor.BoardActorRegistry;
 import com.example.management.infrastructure.config.AppContext;
+import com.example.management.infrastructure.config.ExecutionConfig;
+import com.example.management.infrastructure.config.ExecutionModel;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -13,13 +21,26 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.util.List;
 
-@WebServlet("/boards")
+@WebServlet(urlPatterns = "/boards", asyncSupported = true)
 public class BoardServlet extends HttpServlet {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final CompleteBoardUseCase completeBoardUseCase = AppContext.getInstance()
             .get(CompleteBoardUseCase.class);
 
+    private final BoardGateway boardGateway = AppContext.getInstance()
+            .get(BoardGateway.class);
+
+    private final TaskGateway taskGateway = AppContext.getInstance()
+            .get(TaskGateway.class);
+
+    private final BoardActorRegistry boardActorRegistry = AppContext.getInstance()
+            .get(BoardActorRegistry.class);
+
     private final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -29,28 +50,65 @@ public class BoardServlet extends HttpServlet {
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
 
         String idParam = req.getParameter("id");
+        String afterParam = req.getParameter("after");
+        String limitParam = req.getParameter("limit");
 
-        if (idParam == null || idParam.isBlank()) {
-            resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            writeError(resp, HttpServletResponse.SC_BAD_REQUEST, "ID do board é obrigatório");
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        long afterId;
+        int limit;
+        try{
+            afterId = afterParam == null || afterParam.isBlank() ? 0 : Long.parseLong(afterParam);
+            limit = limitParam == null || limitParam.isBlank() ? DEFAULT_PAGE_SIZE : Integer.parseInt(limitParam);
+        } catch (NumberFormatException e){
+            writeError(resp, HttpServletResponse.SC_BAD_REQUEST, "Parâmetros de paginação inválidos");
             return;
         }
+        if (afterId < 0 || limit < 1) {
+            writeError(resp, HttpServletResponse.SC_BAD_REQUEST, "Parâmetros de paginação inválidos");
+            return;
+        }
+        limit = Math.min(limit, MAX_PAGE_SIZE);
 
-        resp.setContentType("application/json");
-        resp.setCharacterEncoding("UTF-8");
+        if (idParam == null || idParam.isBlank()) {
+            List<BoardSummary> boards = boardGateway.getAllSummaries(afterId, limit);
+            Long nextAfter = boards.size() == limit ? boards.getLast().id() : null;
+            resp.getWriter().write(mapper.writeValueAsString(new PageResponse<>(boards, nextAfter)));
+            return;
+        }
 
         try{
             long boardId = Long.parseLong(idParam);
-            CompleteBoardOutput boardOutput = completeBoardUseCase.execute(boardId);
 
-            if (boardOutput == null){
-                resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                writeError(resp, HttpServletResponse.SC_NOT_FOUND, "Board não encontrado");
+            if (afterParam != null || limitParam != null) {
+                List<TaskOutput> tasks = taskGateway.getAllByBoardId(boardId, afterId, limit).stream()
+                        .map(task -> new TaskOutput(task.getId(), task.getTitle(), task.getDescription(),
+                                task.getDueDate(), task.isBlocked(), task.getCreatedAt()))
+                        .toList();
+                Long nextAfter = tasks.size() == limit ? tasks.getLast().id() : null;
+                resp.getWriter().write(mapper.writeValueAsString(new PageResponse<>(tasks, nextAfter)));
+                return;
+            }
+
+            if (ExecutionConfig.getModel() == ExecutionModel.ACTORS) {
+                AsyncContext asyncContext = req.startAsync();
+                boardActorRegistry.submit(boardId, () -> completeBoardUseCase.execute(boardId))
+                        .whenComplete((boardOutput, error) -> {
+                            HttpServletResponse asyncResp = (HttpServletResponse) asyncContext.getResponse();
+                            try{
+                                if (error != null) writeError(asyncResp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Erro ao carregar o board");
+                                else writeBoard(asyncResp, boardOutput);
+                            } catch (IOException e) {
+                                System.out.println("Error trying to write board response: "+boardId);
+                            } finally {
+                                asyncContext.complete();
+                            }
+                        });
                 return;
             }
 
-            String json = mapper.writeValueAsString(boardOutput);
-            resp.getWriter().write(json);
+            writeBoard(resp, completeBoardUseCase.execute(boardId));
 
         } catch (NumberFormatException e){
             resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -58,12 +116,32 @@ public class BoardServlet extends HttpServlet {
         }
     }
 
+    private void writeBoard(HttpServletResponse resp, CompleteBoardOutput boardOutput) throws IOException {
+        if (boardOutput == null){
+            writeError(resp, HttpServletResponse.SC_NOT_FOUND, "Board não encontrado");
+            return;
+        }
+
+        String json = mapper.writeValueAsString(boardOutput);
+        resp.getWriter().write(json);
+    }
+
     private void writeError(HttpServletResponse resp, int statusCode, String message) throws IOException {
         resp.setStatus(statusCode);
         String errorJson = mapper.writeValueAsString(new ErrorResponse(message));
         resp.getWriter().write(errorJson);
     }
 
+    private static class PageResponse<T> {
+        public final List<T> items;
+        public final Long nextAfter;
+
+        public PageResponse(List<T> items, Long nextAfter) {
+            this.items = items;
+            this.nextAfter = nextAfter;
+        }
+    }
+
     private static class ErrorResponse {
         public final String erro;
 
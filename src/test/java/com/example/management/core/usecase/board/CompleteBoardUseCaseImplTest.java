@@ -1,6 +1,7 @@
 package com.example.management.core.usecase.board;
 
 import com.example.management.core.domain.Board;
+import com.example.management.core.domain.BoardGraph;
 import com.example.management.core.domain.Column;
 import com.example.management.core.domain.Task;
 import com.example.management.core.dto.output.ColumnOutput;
@@ -8,8 +9,6 @@ import com.example.management.core.dto.output.CompleteBoardOutput;
 import com.example.management.core.enums.ColumnType;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
 import com.example.management.core.gateway.BoardGateway;
-import com.example.management.core.gateway.ColumnGateway;
-import com.example.management.core.gateway.TaskGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,12 +31,6 @@ class CompleteBoardUseCaseImplTest {
     @Mock
     private BoardGateway boardGateway;
 
-    @Mock
-    private ColumnGateway columnGateway;
-
-    @Mock
-    private TaskGateway taskGateway;
-
     @InjectMocks
     private CompleteBoardUseCaseImpl completeBoardUseCase;
 
@@ -62,10 +56,8 @@ class CompleteBoardUseCaseImplTest {
         task2.block();
         task2.setCreatedAt(LocalDateTime.of(2023, 1, 3, 14, 0));
 
-        when(boardGateway.findById(boardId)).thenReturn(board);
-        when(columnGateway.getAllByBoardId(boardId)).thenReturn(List.of(column1, column2));
-        when(taskGateway.getAllByColumnId(column1.getId())).thenReturn(List.of(task1));
-        when(taskGateway.getAllByColumnId(column2.getId())).thenReturn(List.of(task2));
+        when(boardGateway.loadBoardGraph(boardId)).thenReturn(new BoardGraph(board, List.of(column1, column2),
+                Map.of(column1.getId(), List.of(task1), column2.getId(), List.of(task2))));
 
         //Act
         CompleteBoardOutput result = completeBoardUseCase.execute(boardId);
@@ -87,9 +79,8 @@ class CompleteBoardUseCaseImplTest {
         assertEquals(1, secondCol.tasks().size());
         assertTrue(secondCol.tasks().get(0).blocked());
 
-        verify(boardGateway, times(1)).findById(boardId);
-        verify(columnGateway, times(1)).getAllByBoardId(boardId);
-        verify(taskGateway, times(2)).getAllByColumnId(anyLong());
+        verify(boardGateway, times(1)).loadBoardGraph(boardId);
+        verifyNoMoreInteractions(boardGateway);
     }
 
     @Test
@@ -98,16 +89,15 @@ class CompleteBoardUseCaseImplTest {
         //Arrange
         long boardId = 999L;
 
-        when(boardGateway.findById(boardId)).thenThrow(
+        when(boardGateway.loadBoardGraph(boardId)).thenThrow(
                 new EntityNotFoundException("Entity not found by ID: \""+boardId+"\""));
 
         //Act & Assert
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> completeBoardUseCase.execute(boardId));
         assertTrue(ex.getMessage().contains("Entity not found by ID"));
 
-        verify(boardGateway, times(1)).findById(boardId);
-        verify(columnGateway, never()).getAllByBoardId(boardId);
-        verify(taskGateway, never()).getAllByColumnId(anyLong());
+        verify(boardGateway, times(1)).loadBoardGraph(boardId);
+        verifyNoMoreInteractions(boardGateway);
 
     }
 
@@ -119,8 +109,7 @@ class CompleteBoardUseCaseImplTest {
         var board = new Board(boardId, "My board");
         board.setCreatedAt(LocalDateTime.of(2023, 1, 1, 10, 0));
 
-        when(boardGateway.findById(boardId)).thenReturn(board);
-        when(columnGateway.getAllByBoardId(boardId)).thenReturn(List.of());
+        when(boardGateway.loadBoardGraph(boardId)).thenReturn(new BoardGraph(board, List.of(), Map.of()));
 
         //Act
         CompleteBoardOutput result = completeBoardUseCase.execute(boardId);
@@ -130,9 +119,8 @@ class CompleteBoardUseCaseImplTest {
         assertEquals(boardId, result.id());
         assertTrue(result.columns().isEmpty());
 
-        verify(boardGateway, times(1)).findById(boardId);
-        verify(columnGateway, times(1)).getAllByBoardId(boardId);
-        verify(taskGateway, never()).getAllByColumnId(anyLong());
+        verify(boardGateway, times(1)).loadBoardGraph(boardId);
+        verifyNoMoreInteractions(boardGateway);
 
     }
 
@@ -149,9 +137,8 @@ class CompleteBoardUseCaseImplTest {
         var column3 = new Column(12L, board, ColumnType.DONE);
         var column4 = new Column(13L, board, ColumnType.PAUSED);
 
-        when(boardGateway.findById(boardId)).thenReturn(board);
-        when(columnGateway.getAllByBoardId(boardId)).thenReturn(List.of(column1, column2, column3, column4));
-        when(taskGateway.getAllByColumnId(anyLong())).thenReturn(List.of());
+        when(boardGateway.loadBoardGraph(boardId)).thenReturn(
+                new BoardGraph(board, List.of(column1, column2, column3, column4), Map.of()));
 
         //Act
         CompleteBoardOutput result = completeBoardUseCase.execute(boardId);
@@ -169,9 +156,8 @@ class CompleteBoardUseCaseImplTest {
             assertTrue(col.tasks().isEmpty());
         }
 
-        verify(boardGateway, times(1)).findById(boardId);
-        verify(columnGateway, times(1)).getAllByBoardId(boardId);
-        verify(taskGateway, times(4)).getAllByColumnId(anyLong());
+        verify(boardGateway, times(1)).loadBoardGraph(boardId);
+        verifyNoMoreInteractions(boardGateway);
 
 
     }
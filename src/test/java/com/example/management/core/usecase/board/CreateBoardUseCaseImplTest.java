@@ -14,8 +14,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Create board use case")
@@ -51,7 +54,8 @@ class CreateBoardUseCaseImplTest {
 
         verify(boardGateway, times(1)).existsByTitle(title);
         verify(boardGateway, times(1))  .save(any(Board.class));
-        verify(columnGateway, times(ColumnType.values().length)).save(any(Column.class));
+        verify(columnGateway, times(1)).saveAll(anyList());
+        verify(columnGateway, never()).save(any(Column.class));
     }
 
     @Test
@@ -63,16 +67,19 @@ class CreateBoardUseCaseImplTest {
 
         when(boardGateway.existsByTitle(title)).thenReturn(false);
         when(boardGateway.save(any(Board.class))).thenReturn(savedBoard);
-        ArgumentCaptor<Column> columnArgumentCaptor = ArgumentCaptor.forClass(Column.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Column>> columnsArgumentCaptor = ArgumentCaptor.forClass(List.class);
 
         //Act
         createBoardUseCase.execute(title);
 
         //Assert
-        verify(columnGateway, times(ColumnType.values().length)).save(columnArgumentCaptor.capture());
+        verify(columnGateway, times(1)).saveAll(columnsArgumentCaptor.capture());
+        List<Column> columns = columnsArgumentCaptor.getValue();
+        assertEquals(ColumnType.values().length, columns.size());
         for(ColumnType type : ColumnType.values()){
-            assertTrue(columnArgumentCaptor.getAllValues().stream()
-                    .anyMatch(c -> c.getType() == type));
+            assertTrue(columns.stream()
+                    .anyMatch(c -> c.getType() == type && c.getBoard() == savedBoard));
         }
     }
 
@@ -90,6 +97,7 @@ class CreateBoardUseCaseImplTest {
         verify(boardGateway, times(1)).existsByTitle(existingTitle);
         verify(boardGateway, never()).save(any());
         verify(columnGateway, never()).save(any());
+        verify(columnGateway, never()).saveAll(any());
     }
 
 
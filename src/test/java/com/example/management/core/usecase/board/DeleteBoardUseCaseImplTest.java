@@ -2,14 +2,18 @@ package com.example.management.core.usecase.board;
 
 import com.example.management.infrastructure.exception.EntityNotFoundException;
 import com.example.management.core.gateway.BoardGateway;
+import com.example.management.core.gateway.BoardLockGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Delete board use case")
@@ -19,6 +23,9 @@ class DeleteBoardUseCaseImplTest {
     @Mock
     private BoardGateway boardGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private DeleteBoardUseCaseImpl deleteBoardUseCase;
 
@@ -34,6 +41,7 @@ class DeleteBoardUseCaseImplTest {
         deleteBoardUseCase.execute(boardId);
 
         //Assert / Verify
+        verify(boardLockGateway, times(1)).runWithBoardLock(eq(boardId), any());
         verify(boardGateway, times(1)).existsById(boardId);
         verify(boardGateway, times(1)).deleteById(boardId);
     }
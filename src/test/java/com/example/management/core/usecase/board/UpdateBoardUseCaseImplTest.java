@@ -5,14 +5,18 @@ import com.example.management.core.dto.input.UpdateBoardInput;
 import com.example.management.core.exception.DuplicateTitleException;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
 import com.example.management.core.gateway.BoardGateway;
+import com.example.management.core.gateway.BoardLockGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Update board use case")
@@ -22,6 +26,9 @@ class UpdateBoardUseCaseImplTest {
     @Mock
     private BoardGateway boardGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private UpdateBoardUseCaseImpl updateBoardUseCase;
 
@@ -46,6 +53,7 @@ class UpdateBoardUseCaseImplTest {
         assertEquals(boardId, result.getId());
         assertEquals("New title", result.getTitle());
 
+        verify(boardLockGateway, times(1)).withBoardLock(eq(boardId), any());
         verify(boardGateway, times(1)).findById(boardId);
         verify(boardGateway, times(1)).existsByTitleAndIdNot(updateBoardInput.newTitle(), updateBoardInput.id());
         verify(boardGateway, times(1)).save(existingBoard);
@@ -5,13 +5,16 @@ import com.example.management.core.domain.Column;
 import com.example.management.core.domain.Task;
 import com.example.management.core.enums.ColumnType;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.TaskGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -27,6 +30,9 @@ class BlockTaskUseCaseImplTest {
     @Mock
     private TaskGateway taskGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private BlockTaskUseCaseImpl blockTaskUseCase;
 
@@ -37,8 +43,9 @@ class BlockTaskUseCaseImplTest {
         Board board = new Board(1L, "board");
         Column column = new Column(3L, board, ColumnType.TO_DO);
         long taskId = 3L;
-        Task existingTask = new Task(taskId, "title", "Description", LocalDate.of(2025, 12, 12), column);
+        Task existingTask = new Task(taskId, "title", "Description", LocalDate.now().plusDays(10), column);
 
+       when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
        when(taskGateway.findById(taskId)).thenReturn(existingTask);
        when(taskGateway.save(any(Task.class))).thenReturn(existingTask);
 
@@ -60,9 +67,10 @@ class BlockTaskUseCaseImplTest {
         Board board = new Board(1L, "board");
         Column column = new Column(3L, board, ColumnType.TO_DO);
         long taskId = 3L;
-        Task existingTask = new Task(taskId, "title", "Description", LocalDate.of(2025, 12, 12), column);
+        Task existingTask = new Task(taskId, "title", "Description", LocalDate.now().plusDays(10), column);
         existingTask.block();
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
 
         //Act
@@ -80,13 +88,14 @@ class BlockTaskUseCaseImplTest {
         //Arrange
         long taskId = 999L;
 
-        when(taskGateway.findById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
+        when(taskGateway.findBoardIdById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
 
         //Act & assert
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> blockTaskUseCase.execute(taskId));
         assertEquals("Entity not found with ID: "+taskId, ex.getMessage());
 
-        verify(taskGateway, times(1)).findById(taskId);
+        verify(taskGateway, times(1)).findBoardIdById(taskId);
+        verify(taskGateway, never()).findById(taskId);
         verify(taskGateway, never()).save(any(Task.class));
     }
 }
\ No newline at end of file
@@ -8,19 +8,23 @@ import com.example.management.core.enums.ColumnType;
 import com.example.management.core.exception.DuplicateTitleException;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
 import com.example.management.core.exception.InvalidDueDateException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.ColumnGateway;
 import com.example.management.core.gateway.TaskGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Create task use case")
@@ -33,6 +37,9 @@ class CreateTaskUseCaseImplTest {
     @Mock
     private ColumnGateway columnGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private CreateTaskUseCaseImpl createTaskUseCase;
 
@@ -72,6 +79,7 @@ class CreateTaskUseCaseImplTest {
         assertEquals(board, result.getColumn().getBoard());
 
         verify(columnGateway, times(1)).findById(columnId);
+        verify(boardLockGateway, times(1)).withBoardLock(eq(board.getId()), any());
         verify(taskGateway, times(1)).existsByTitleInBoard(title, board.getId());
         verify(taskGateway, times(1)).save(any(Task.class));
     }
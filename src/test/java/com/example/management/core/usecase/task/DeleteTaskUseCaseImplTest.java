@@ -1,15 +1,19 @@
 package com.example.management.core.usecase.task;
 
 import com.example.management.infrastructure.exception.EntityNotFoundException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.TaskGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Delete task use case")
@@ -19,6 +23,9 @@ class DeleteTaskUseCaseImplTest {
     @Mock
     private TaskGateway taskGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private DeleteTaskUseCaseImpl deleteTaskUseCase;
 
@@ -27,14 +34,16 @@ class DeleteTaskUseCaseImplTest {
     void shouldDeleteTaskWithSuccess(){
         //Arrange
         long taskId = 5L;
+        long boardId = 1L;
 
-        when(taskGateway.existsById(taskId)).thenReturn(true);
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(boardId);
         doNothing().when(taskGateway).deleteById(taskId);
 
         //Act & Assert
         deleteTaskUseCase.execute(taskId);
 
-        verify(taskGateway, times(1)).existsById(taskId);
+        verify(taskGateway, times(1)).findBoardIdById(taskId);
+        verify(boardLockGateway, times(1)).runWithBoardLock(eq(boardId), any());
         verify(taskGateway, times(1)).deleteById(taskId);
     }
 
@@ -44,13 +53,13 @@ class DeleteTaskUseCaseImplTest {
         //Arrange
         long taskId = 5L;
 
-        when(taskGateway.existsById(taskId)).thenReturn(false);
+        when(taskGateway.findBoardIdById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
 
         //Act & Assert
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> deleteTaskUseCase.execute(taskId));
         assertEquals("Entity not found with ID: "+taskId, ex.getMessage());
 
-        verify(taskGateway, times(1)).existsById(taskId);
+        verify(taskGateway, times(1)).findBoardIdById(taskId);
         verify(taskGateway, never()).deleteById(anyLong());
     }
 }
@@ -6,13 +6,16 @@ import com.example.management.core.domain.Task;
 import com.example.management.core.dto.input.MoveTaskInput;
 import com.example.management.core.enums.ColumnType;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.ColumnGateway;
 import com.example.management.core.gateway.TaskGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -29,6 +32,9 @@ class MoveTaskUseCaseImplTest {
     @Mock
     private ColumnGateway columnGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private MoveTaskUseCaseImpl moveTaskUseCase;
 
@@ -42,8 +48,9 @@ class MoveTaskUseCaseImplTest {
         Board board = new Board(1L, "board");
         Column fromColumn = new Column(2L, board, ColumnType.TO_DO);
         Column toColumn = new Column(columnId, board, ColumnType.IN_PROGRESS);
-        Task existingTask = new Task(taskId, "Task title", "Task description", LocalDate.of(2025, 12, 12), fromColumn);
+        Task existingTask = new Task(taskId, "Task title", "Task description", LocalDate.now().plusDays(10), fromColumn);
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
         when(columnGateway.findById(columnId)).thenReturn(toColumn);
         when(taskGateway.save(existingTask)).thenReturn(existingTask);
@@ -68,14 +75,15 @@ class MoveTaskUseCaseImplTest {
         long taskId = 999L;
         long columnId = 5L;
 
-        when(taskGateway.findById(taskId)).thenThrow( new EntityNotFoundException("Entity not found with ID: "+taskId));
+        when(taskGateway.findBoardIdById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
         MoveTaskInput moveTaskInput = new MoveTaskInput(taskId, columnId);
 
         // Act & Assert
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> moveTaskUseCase.execute(moveTaskInput));
         assertEquals("Entity not found with ID: "+taskId, ex.getMessage());
 
-        verify(taskGateway, times(1)).findById(taskId);
+        verify(taskGateway, times(1)).findBoardIdById(taskId);
+        verify(taskGateway, never()).findById(taskId);
         verify(columnGateway, never()).findById(columnId);
         verify(taskGateway, never()).save(any(Task.class));
     }
@@ -89,8 +97,9 @@ class MoveTaskUseCaseImplTest {
 
         Board board = new Board(1L, "board");
         Column column = new Column(columnId, board, ColumnType.TO_DO);
-        Task existingTask = new Task(taskId, "Task title", "Task description", LocalDate.of(2025, 12, 12), column);
+        Task existingTask = new Task(taskId, "Task title", "Task description", LocalDate.now().plusDays(10), column);
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
         when(columnGateway.findById(columnId)).thenReturn(column);
 
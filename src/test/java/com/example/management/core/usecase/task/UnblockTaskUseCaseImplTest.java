@@ -5,13 +5,16 @@ import com.example.management.core.domain.Column;
 import com.example.management.core.domain.Task;
 import com.example.management.core.enums.ColumnType;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.TaskGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -25,6 +28,9 @@ class UnblockTaskUseCaseImplTest {
     @Mock
     private TaskGateway taskGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private UnblockTaskUseCaseImpl unblockTaskUseCase;
 
@@ -35,9 +41,10 @@ class UnblockTaskUseCaseImplTest {
         Board board = new Board(1L, "board");
         Column column = new Column(3L, board, ColumnType.TO_DO);
         long taskId = 3L;
-        Task existingTask = new Task(taskId, "title", "Description", LocalDate.of(2025, 12, 12), column);
+        Task existingTask = new Task(taskId, "title", "Description", LocalDate.now().plusDays(10), column);
         existingTask.block();
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
 
         //Act
@@ -58,8 +65,9 @@ class UnblockTaskUseCaseImplTest {
         Board board = new Board(1L, "board");
         Column column = new Column(3L, board, ColumnType.TO_DO);
         long taskId = 3L;
-        Task existingTask = new Task(taskId, "title", "Description", LocalDate.of(2025, 12, 12), column);
+        Task existingTask = new Task(taskId, "title", "Description", LocalDate.now().plusDays(10), column);
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
 
         //Act
@@ -77,13 +85,14 @@ class UnblockTaskUseCaseImplTest {
         //Arrange
         long taskId = 3L;
 
-        when(taskGateway.findById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
+        when(taskGateway.findBoardIdById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
 
         //Act & Assert
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> unblockTaskUseCase.execute(taskId));
         assertEquals("Entity not found with ID: "+taskId, ex.getMessage());
 
-        verify(taskGateway, times(1)).findById(taskId);
+        verify(taskGateway, times(1)).findBoardIdById(taskId);
+        verify(taskGateway, never()).findById(taskId);
         verify(taskGateway, never()).save(any(Task.class));
     }
 
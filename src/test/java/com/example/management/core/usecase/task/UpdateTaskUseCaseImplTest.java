@@ -8,18 +8,22 @@ import com.example.management.core.enums.ColumnType;
 import com.example.management.core.exception.DuplicateTitleException;
 import com.example.management.infrastructure.exception.EntityNotFoundException;
 import com.example.management.core.exception.InvalidDueDateException;
+import com.example.management.core.gateway.BoardLockGateway;
 import com.example.management.core.gateway.TaskGateway;
+import com.example.management.infrastructure.gateway.StripedBoardLockGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Update task use case")
@@ -29,6 +33,9 @@ class UpdateTaskUseCaseImplTest {
     @Mock
     private TaskGateway taskGateway;
 
+    @Spy
+    private BoardLockGateway boardLockGateway = new StripedBoardLockGateway();
+
     @InjectMocks
     private UpdateTaskUseCaseImpl updateTaskUseCase;
 
@@ -43,10 +50,11 @@ class UpdateTaskUseCaseImplTest {
         long taskId = 1L;
         String title = "New Task";
         String description = "New Description";
-        LocalDate dueDate = LocalDate.of(2025, 12, 12);
+        LocalDate dueDate = LocalDate.now().plusDays(10);
 
         UpdateTaskInput updateTaskInput = new UpdateTaskInput(taskId, title, description, dueDate);
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
         when(taskGateway.existsByTitleInBoardAndIdNot(title, board.getId(), taskId)).thenReturn(false);
         when(taskGateway.save(any(Task.class))).thenReturn(existingTask);
@@ -59,9 +67,10 @@ class UpdateTaskUseCaseImplTest {
         assertEquals(taskId, result.getId());
         assertEquals(title, result.getTitle());
         assertEquals(description, result.getDescription());
-        assertEquals(LocalDate.of(2025, 12, 12), result.getDueDate());
+        assertEquals(dueDate, result.getDueDate());
 
         verify(taskGateway, times(1)).findById(taskId);
+        verify(boardLockGateway, times(1)).withBoardLock(eq(board.getId()), any());
         verify(taskGateway, times(1)).existsByTitleInBoardAndIdNot(title, board.getId(), taskId);
         verify(taskGateway, times(1)).save(any(Task.class));
     }
@@ -77,10 +86,11 @@ class UpdateTaskUseCaseImplTest {
         long taskId = 1L;
         String title = "Same Title";
         String description = "New Description";
-        LocalDate dueDate = LocalDate.of(2025, 12, 12);
+        LocalDate dueDate = LocalDate.now().plusDays(10);
 
         UpdateTaskInput updateTaskInput = new UpdateTaskInput(taskId, title, description, dueDate);
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
         when(taskGateway.existsByTitleInBoardAndIdNot(title, board.getId(), taskId)).thenReturn(false);
         when(taskGateway.save(any(Task.class))).thenReturn(existingTask);
@@ -93,7 +103,7 @@ class UpdateTaskUseCaseImplTest {
         assertEquals(taskId, result.getId());
         assertEquals(title, result.getTitle());
         assertEquals(description, result.getDescription());
-        assertEquals(LocalDate.of(2025, 12, 12), result.getDueDate());
+        assertEquals(dueDate, result.getDueDate());
 
         verify(taskGateway, times(1)).findById(taskId);
         verify(taskGateway, times(1)).existsByTitleInBoardAndIdNot(title, board.getId(), taskId);
@@ -107,17 +117,18 @@ class UpdateTaskUseCaseImplTest {
         long taskId = 999L;
         String title = "New Task";
         String description = "New Description";
-        LocalDate dueDate = LocalDate.of(2025, 12, 12);
+        LocalDate dueDate = LocalDate.now().plusDays(10);
 
         UpdateTaskInput updateTaskInput = new UpdateTaskInput(taskId, title, description, dueDate);
 
-        when(taskGateway.findById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
+        when(taskGateway.findBoardIdById(taskId)).thenThrow(new EntityNotFoundException("Entity not found with ID: "+taskId));
 
         //Act & Assert
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> updateTaskUseCase.execute(updateTaskInput));
         assertEquals("Entity not found with ID: "+taskId, ex.getMessage());
 
-        verify(taskGateway, times(1)).findById(taskId);
+        verify(taskGateway, times(1)).findBoardIdById(taskId);
+        verify(taskGateway, never()).findById(taskId);
         verify(taskGateway, never()).existsByTitleInBoardAndIdNot(anyString(), anyLong(), anyLong());
         verify(taskGateway, never()).save(any(Task.class));
     }
@@ -127,8 +138,6 @@ class UpdateTaskUseCaseImplTest {
     void shouldThrowExceptionWhenDueDateIsPast(){
         //Arrange
         Board board = new Board(1L, "Board");
-        Column column = new Column(1L, board, ColumnType.TO_DO);
-        Task existingTask = new Task(1L, "First Task", "Desc", LocalDate.now().plusDays(1), column);
 
         long taskId = 1L;
         String title = "New Task";
@@ -137,13 +146,14 @@ class UpdateTaskUseCaseImplTest {
 
         UpdateTaskInput updateTaskInput = new UpdateTaskInput(taskId, title, description, dueDate);
 
-        when(taskGateway.findById(taskId)).thenReturn(existingTask);
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
 
         //Act & Assert
         InvalidDueDateException ex = assertThrows(InvalidDueDateException.class, () -> updateTaskUseCase.execute(updateTaskInput));
         assertEquals("Due date cannot be in the past.", ex.getMessage());
 
-        verify(taskGateway, times(1)).findById(taskId);
+        verify(taskGateway, times(1)).findBoardIdById(taskId);
+        verify(taskGateway, never()).findById(taskId);
         verify(taskGateway, never()).existsByTitleInBoardAndIdNot(anyString(), anyLong(), anyLong());
         verify(taskGateway, never()).save(any(Task.class));
     }
@@ -159,10 +169,11 @@ class UpdateTaskUseCaseImplTest {
         long taskId = 1L;
         String title = "New Task";
         String description = "New Description";
-        LocalDate dueDate = LocalDate.of(2025, 12, 12);
+        LocalDate dueDate = LocalDate.now().plusDays(10);
 
         UpdateTaskInput updateTaskInput = new UpdateTaskInput(taskId, title, description, dueDate);
 
+        when(taskGateway.findBoardIdById(taskId)).thenReturn(board.getId());
         when(taskGateway.findById(taskId)).thenReturn(existingTask);
 
         when(taskGateway.existsByTitleInBoardAndIdNot(title, board.getId(), taskId))
@@ -0,0 +1,122 @@
+package com.example.management.infrastructure.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Long keyed open addressing map")
+class LongObjectMapTest {
+
+    private static final int MASK = 15;
+
+    static long[] keysWithSlot(int slot, int mask, int count){
+        long[] keys = new long[count];
+        int found = 0;
+        for(long key = 1; found < count; key++){
+            if((LongHashing.mix(key) & mask) == slot) keys[found++] = key;
+        }
+        return keys;
+    }
+
+    @Test
+    @DisplayName("Should put, get and remove keys of a cluster that wraps around the table end")
+    void shouldHandleWrapAroundCluster(){
+        //Arrange
+        LongObjectMap<String> map = new LongObjectMap<>(8);
+        long[] tail = keysWithSlot(MASK, MASK, 4);
+        long[] head = keysWithSlot(0, MASK, 2);
+        for(long key : tail) map.put(key, "tail-"+key);
+        for(long key : head) map.put(key, "head-"+key);
+
+        //Act
+        map.remove(tail[0]);
+        map.remove(head[0]);
+
+        //Assert
+        assertEquals(4, map.size());
+        assertNull(map.get(tail[0]));
+        assertNull(map.get(head[0]));
+        for(int i = 1; i < tail.length; i++) assertEquals("tail-"+tail[i], map.get(tail[i]));
+        assertEquals("head-"+head[1], map.get(head[1]));
+
+        map.remove(tail[1]);
+        map.remove(tail[2]);
+        map.remove(tail[3]);
+        assertEquals("head-"+head[1], map.get(head[1]));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Should replace the value of an existing key without growing")
+    void shouldReplaceExistingKey(){
+        //Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(7, "old");
+
+        //Act
+        String previous = map.put(7, "new");
+
+        //Assert
+        assertEquals("old", previous);
+        assertEquals("new", map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Should keep every entry reachable across resizes")
+    void shouldKeepEntriesAcrossResize(){
+        //Arrange
+        LongObjectMap<Long> map = new LongObjectMap<>(1);
+
+        //Act
+        for(long key = 1; key <= 10_000; key++) map.put(key, key * 10);
+
+        //Assert
+        assertEquals(10_000, map.size());
+        for(long key = 1; key <= 10_000; key++) assertEquals(key * 10, map.get(key));
+        assertFalse(map.containsKey(10_001));
+    }
+
+    @Test
+    @DisplayName("Should iterate only live entries after random puts and removes")
+    void shouldIterateLiveEntriesAfterDeletes(){
+        //Arrange
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        //Act
+        for(int i = 0; i < 50_000; i++){
+            long key = random.nextInt(2_000);
+            if(random.nextInt(3) == 0){
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+
+        //Assert
+        assertEquals(expected.size(), map.size());
+        assertArrayEquals(expected.keySet().stream().mapToLong(Long::longValue).sorted().toArray(), map.sortedKeys());
+        List<Long> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertEquals(expected.size(), values.size());
+        assertTrue(values.containsAll(expected.values()));
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+
+    @Test
+    @DisplayName("Should reject null values")
+    void shouldRejectNullValues(){
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.management.infrastructure.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static com.example.management.infrastructure.collection.LongObjectMapTest.keysWithSlot;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Long open addressing set")
+class LongSetTest {
+
+    private static final int MASK = 15;
+
+    @Test
+    @DisplayName("Should add, find and remove values of a cluster that wraps around the table end")
+    void shouldHandleWrapAroundCluster(){
+        //Arrange
+        LongSet set = new LongSet(8);
+        long[] tail = keysWithSlot(MASK - 1, MASK, 4);
+        long[] head = keysWithSlot(0, MASK, 2);
+        for(long value : tail) assertTrue(set.add(value));
+        for(long value : head) assertTrue(set.add(value));
+
+        //Act
+        assertTrue(set.remove(tail[1]));
+        assertTrue(set.remove(head[0]));
+
+        //Assert
+        assertEquals(4, set.size());
+        assertFalse(set.contains(tail[1]));
+        assertFalse(set.contains(head[0]));
+        assertTrue(set.contains(tail[0]));
+        assertTrue(set.contains(tail[2]));
+        assertTrue(set.contains(tail[3]));
+        assertTrue(set.contains(head[1]));
+        assertFalse(set.remove(head[0]));
+    }
+
+    @Test
+    @DisplayName("Should leave the original set unchanged when its copy is modified")
+    void shouldCopyIndependently(){
+        //Arrange
+        LongSet original = new LongSet();
+        for(long value = 1; value <= 6; value++) original.add(value);
+
+        //Act
+        LongSet copy = original.copy();
+        copy.remove(3);
+        for(long value = 100; value < 120; value++) copy.add(value);
+
+        //Assert
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5, 6}, original.toSortedArray());
+        assertEquals(25, copy.size());
+        assertFalse(copy.contains(3));
+        assertTrue(copy.contains(119));
+    }
+
+    @Test
+    @DisplayName("Should keep every value reachable across resizes")
+    void shouldKeepValuesAcrossResize(){
+        //Arrange
+        LongSet set = new LongSet(1);
+
+        //Act
+        for(long value = -5_000; value <= 5_000; value++) set.add(value);
+
+        //Assert
+        assertEquals(10_001, set.size());
+        for(long value = -5_000; value <= 5_000; value++) assertTrue(set.contains(value));
+        assertFalse(set.add(0));
+    }
+
+    @Test
+    @DisplayName("Should iterate only live values after random adds and removes")
+    void shouldIterateLiveValuesAfterDeletes(){
+        //Arrange
+        LongSet set = new LongSet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(7);
+
+        //Act
+        for(int i = 0; i < 50_000; i++){
+            long value = random.nextInt(2_000);
+            if(random.nextInt(3) == 0){
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        //Assert
+        assertEquals(expected.size(), set.size());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).sorted().toArray(), set.toSortedArray());
+        Set<Long> iterated = new HashSet<>();
+        set.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    @DisplayName("Should reject the reserved empty marker")
+    void shouldRejectReservedValue(){
+        LongSet set = new LongSet();
+
+        assertThrows(IllegalArgumentException.class, () -> set.add(Long.MIN_VALUE));
+        assertFalse(set.contains(Long.MIN_VALUE));
+        assertFalse(set.remove(Long.MIN_VALUE));
+    }
+}
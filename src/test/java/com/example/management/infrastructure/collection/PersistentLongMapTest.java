@@ -0,0 +1,124 @@
+package com.example.management.infrastructure.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Persistent long keyed hash trie")
+class PersistentLongMapTest {
+
+    private static final long DEEP = 1L << 55;
+
+    private static <V> void assertContent(Map<Long, V> expected, PersistentLongMap<V> map){
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.isEmpty(), map.isEmpty());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        List<V> values = map.values();
+        assertEquals(expected.size(), values.size());
+        assertTrue(values.containsAll(expected.values()));
+    }
+
+    @Test
+    @DisplayName("Should insert and remove keys whose hashes share most of their bits")
+    void shouldRoundTripDeepMergeChains(){
+        //Arrange
+        long[] keys = { 3, 3 + DEEP, 3 + 2 * DEEP, 3 + (1L << 30), 3 + (1L << 60) };
+        PersistentLongMap<String> map = PersistentLongMap.empty();
+
+        //Act
+        for(long key : keys) map = map.plus(key, "v"+key);
+
+        //Assert
+        assertEquals(keys.length, map.size());
+        for(long key : keys) assertEquals("v"+key, map.get(key));
+        assertNull(map.get(3 + 3 * DEEP));
+
+        PersistentLongMap<String> shrinking = map;
+        for(int i = 0; i < keys.length; i++){
+            shrinking = shrinking.minus(keys[i]);
+            assertEquals(keys.length - i - 1, shrinking.size());
+            assertNull(shrinking.get(keys[i]));
+            for(int j = i + 1; j < keys.length; j++) assertEquals("v"+keys[j], shrinking.get(keys[j]));
+        }
+        assertTrue(shrinking.isEmpty());
+        assertSame(PersistentLongMap.empty(), shrinking);
+    }
+
+    @Test
+    @DisplayName("Should collapse a single remaining leaf and still accept it again")
+    void shouldCollapseSingleLeafAndReinsert(){
+        //Arrange
+        PersistentLongMap<String> map = PersistentLongMap.<String>empty()
+                .plus(9, "a")
+                .plus(9 + DEEP, "b");
+
+        //Act
+        PersistentLongMap<String> collapsed = map.minus(9 + DEEP);
+        PersistentLongMap<String> restored = collapsed.plus(9 + DEEP, "c");
+
+        //Assert
+        assertEquals("a", collapsed.get(9));
+        assertNull(collapsed.get(9 + DEEP));
+        assertEquals(1, collapsed.size());
+        assertEquals("a", restored.get(9));
+        assertEquals("c", restored.get(9 + DEEP));
+        assertEquals(2, restored.size());
+    }
+
+    @Test
+    @DisplayName("Should keep size unchanged when replacing or removing absent keys")
+    void shouldKeepSizeOnReplaceAndAbsentRemove(){
+        //Arrange
+        PersistentLongMap<String> map = PersistentLongMap.<String>empty().plus(1, "a").plus(2, "b");
+
+        //Act
+        PersistentLongMap<String> replaced = map.plus(1, "z");
+        PersistentLongMap<String> unchanged = map.minus(1 + DEEP);
+
+        //Assert
+        assertEquals(2, replaced.size());
+        assertEquals("z", replaced.get(1));
+        assertSame(map, unchanged);
+        assertThrows(IllegalArgumentException.class, () -> map.plus(3, null));
+    }
+
+    @Test
+    @DisplayName("Should leave every older version unchanged after later updates")
+    void shouldKeepOlderVersionsUnchanged(){
+        //Arrange
+        Random random = new Random(11);
+        Map<Long, Long> expected = new HashMap<>();
+        PersistentLongMap<Long> map = PersistentLongMap.empty();
+        List<PersistentLongMap<Long>> versions = new ArrayList<>();
+        List<Map<Long, Long>> expectedVersions = new ArrayList<>();
+
+        //Act
+        for(int i = 0; i < 20_000; i++){
+            long key = random.nextInt(500) + (random.nextBoolean() ? DEEP * random.nextInt(4) : 0);
+            if(random.nextInt(3) == 0){
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, (long) i);
+                map = map.plus(key, (long) i);
+            }
+            if(i % 1_000 == 0){
+                versions.add(map);
+                expectedVersions.add(new HashMap<>(expected));
+            }
+        }
+
+        //Assert
+        assertContent(expected, map);
+        for(int i = 0; i < versions.size(); i++){
+            assertContent(expectedVersions.get(i), versions.get(i));
+        }
+    }
+}
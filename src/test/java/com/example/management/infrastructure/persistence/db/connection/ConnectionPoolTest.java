@@ -0,0 +1,191 @@
+package com.example.management.infrastructure.persistence.db.connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JDBC connection pool")
+class ConnectionPoolTest {
+
+    private static final Map<String, List<Connection>> OPENED = new ConcurrentHashMap<>();
+
+    private final String url = "jdbc:stub:" + UUID.randomUUID();
+    private ConnectionPool pool;
+
+    static final class StubDriver implements Driver {
+
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if(!acceptsURL(url)) return null;
+
+            Connection connection = mock(Connection.class);
+            when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+            when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+            when(connection.getAutoCommit()).thenReturn(true);
+            OPENED.computeIfAbsent(url, key -> new CopyOnWriteArrayList<>()).add(connection);
+            return connection;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith("jdbc:stub:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+    }
+
+    @BeforeAll
+    static void registerDriver() throws SQLException {
+        DriverManager.registerDriver(new StubDriver());
+    }
+
+    @AfterEach
+    void closePool(){
+        if(pool != null) pool.close();
+    }
+
+    private ConnectionPool pool(int minSize, int maxSize, long idleTimeoutMillis, long acquireTimeoutMillis){
+        pool = new ConnectionPool(url, "user", "secret", minSize, maxSize,
+                idleTimeoutMillis, acquireTimeoutMillis, "SELECT 1", 8);
+        return pool;
+    }
+
+    private List<Connection> opened(){
+        return OPENED.getOrDefault(url, List.of());
+    }
+
+    @Test
+    @DisplayName("Should time out when every connection is leased")
+    void shouldTimeOutWhenPoolIsExhausted() throws SQLException {
+        //Arrange
+        ConnectionPool pool = pool(0, 1, 60_000, 100);
+        Connection first = pool.getConnection();
+
+        //Act
+        SQLException timeout = assertThrows(SQLException.class, pool::getConnection);
+
+        //Assert
+        assertTrue(timeout.getMessage().contains("Timed out"));
+        assertEquals(1, pool.getStats().acquireTimeouts());
+
+        first.close();
+        try(Connection second = pool.getConnection()){
+            assertFalse(second.isClosed());
+        }
+        assertEquals(1, opened().size());
+    }
+
+    @Test
+    @DisplayName("Should return a lease only once when it is closed twice")
+    void shouldIgnoreSecondCloseOfLease() throws SQLException {
+        //Arrange
+        ConnectionPool pool = pool(0, 1, 60_000, 100);
+        Connection lease = pool.getConnection();
+
+        //Act
+        lease.close();
+        lease.close();
+
+        //Assert
+        assertTrue(lease.isClosed());
+        assertThrows(SQLException.class, lease::createStatement);
+        assertEquals(1, pool.getStats().idleConnections());
+
+        Connection next = pool.getConnection();
+        assertThrows(SQLException.class, pool::getConnection);
+        next.close();
+        verify(opened().getFirst(), never()).close();
+    }
+
+    @Test
+    @DisplayName("Should roll back and restore autocommit when a lease is returned mid transaction")
+    void shouldRollBackOnRelease() throws SQLException {
+        //Arrange
+        ConnectionPool pool = pool(0, 1, 60_000, 100);
+        Connection lease = pool.getConnection();
+        Connection physical = opened().getFirst();
+        lease.setAutoCommit(false);
+        when(physical.getAutoCommit()).thenReturn(false);
+
+        //Act
+        lease.close();
+
+        //Assert
+        verify(physical).rollback();
+        verify(physical).setAutoCommit(true);
+        verify(physical, never()).close();
+        assertEquals(1, pool.getStats().idleConnections());
+    }
+
+    @Test
+    @DisplayName("Should evict idle connections down to the minimum size")
+    void shouldEvictIdleConnectionsDownToMinSize() throws Exception {
+        //Arrange
+        ConnectionPool pool = pool(1, 3, 10, 100);
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+        Connection third = pool.getConnection();
+        first.close();
+        second.close();
+        third.close();
+
+        //Act
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pool.getStats().totalConnections() > 1 && System.currentTimeMillis() < deadline){
+            Thread.sleep(50);
+        }
+
+        //Assert
+        PoolStats stats = pool.getStats();
+        assertEquals(1, stats.totalConnections());
+        assertEquals(1, stats.idleConnections());
+        long closedPhysical = opened().stream()
+                .filter(connection -> mockingDetails(connection).getInvocations().stream()
+                        .anyMatch(invocation -> invocation.getMethod().getName().equals("close")))
+                .count();
+        assertEquals(opened().size() - 1, closedPhysical);
+    }
+}
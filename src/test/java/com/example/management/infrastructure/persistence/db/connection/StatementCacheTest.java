@@ -0,0 +1,137 @@
+package com.example.management.infrastructure.persistence.db.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Per-connection prepared statement cache")
+class StatementCacheTest {
+
+    private Connection connection;
+    private final Map<String, PreparedStatement> prepared = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            PreparedStatement statement = mock(PreparedStatement.class);
+            prepared.put(invocation.getArgument(0), statement);
+            return statement;
+        });
+    }
+
+    @Test
+    @DisplayName("Should reuse the statement after its lease is closed")
+    void shouldHitCacheAfterLeaseIsClosed() throws SQLException {
+        //Arrange
+        StatementCache cache = new StatementCache(connection, 4, hits, misses);
+        PreparedStatement first = cache.prepare("SELECT 1");
+        first.setLong(1, 10);
+
+        //Act
+        first.close();
+        PreparedStatement second = cache.prepare("SELECT 1");
+
+        //Assert
+        assertEquals(1, hits.get());
+        assertEquals(1, misses.get());
+        verify(connection, times(1)).prepareStatement("SELECT 1");
+        verify(prepared.get("SELECT 1")).clearParameters();
+        verify(prepared.get("SELECT 1"), never()).close();
+        assertTrue(first.isClosed());
+        assertThrows(SQLException.class, () -> first.setLong(1, 20));
+        assertFalse(second.isClosed());
+    }
+
+    @Test
+    @DisplayName("Should prepare an uncached statement when the cached one is still in use")
+    void shouldMissWhenStatementIsInUse() throws SQLException {
+        //Arrange
+        StatementCache cache = new StatementCache(connection, 4, hits, misses);
+        PreparedStatement leased = cache.prepare("SELECT 1");
+
+        //Act
+        PreparedStatement concurrent = cache.prepare("SELECT 1");
+
+        //Assert
+        assertEquals(0, hits.get());
+        assertEquals(2, misses.get());
+        assertNotSame(leased, concurrent);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should close a statement evicted while in use once it is returned")
+    void shouldCloseEvictedStatementOnReturn() throws SQLException {
+        //Arrange
+        StatementCache cache = new StatementCache(connection, 1, hits, misses);
+        PreparedStatement inUse = cache.prepare("SELECT a");
+        PreparedStatement evictedStatement = prepared.get("SELECT a");
+
+        //Act
+        cache.prepare("SELECT b").close();
+
+        //Assert
+        verify(evictedStatement, never()).close();
+        assertEquals(1, cache.size());
+
+        inUse.close();
+        verify(evictedStatement).close();
+        verify(prepared.get("SELECT b"), never()).close();
+    }
+
+    @Test
+    @DisplayName("Should take back leaked leases when the connection is released")
+    void shouldReleaseLeakedLeases() throws SQLException {
+        //Arrange
+        StatementCache cache = new StatementCache(connection, 4, hits, misses);
+        PreparedStatement leaked = cache.prepare("SELECT 1");
+
+        //Act
+        cache.releaseAll();
+
+        //Assert
+        assertTrue(leaked.isClosed());
+        assertThrows(SQLException.class, leaked::executeQuery);
+        cache.prepare("SELECT 1");
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    @DisplayName("Should cache a generated-keys statement apart from the plain one and clear its batch")
+    void shouldCacheGeneratedKeysStatementSeparately() throws SQLException {
+        //Arrange
+        PreparedStatement withKeys = mock(PreparedStatement.class);
+        when(connection.prepareStatement("INSERT 1", Statement.RETURN_GENERATED_KEYS)).thenReturn(withKeys);
+        StatementCache cache = new StatementCache(connection, 4, hits, misses);
+        cache.prepare("INSERT 1").close();
+
+        //Act
+        PreparedStatement first = cache.prepare("INSERT 1", Statement.RETURN_GENERATED_KEYS);
+        first.addBatch();
+        first.close();
+        PreparedStatement second = cache.prepare("INSERT 1", Statement.RETURN_GENERATED_KEYS);
+
+        //Assert
+        assertEquals(1, hits.get());
+        assertEquals(2, misses.get());
+        assertEquals(2, cache.size());
+        verify(connection, times(1)).prepareStatement("INSERT 1", Statement.RETURN_GENERATED_KEYS);
+        verify(withKeys).clearBatch();
+        assertFalse(second.isClosed());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.management.infrastructure.persistence.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Atomic CSV file")
+class AtomicCsvFileTest {
+
+    private static final String HEADER = "ID;TITLE;CREATED_AT";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should refuse to overwrite a file that changed on disk since it was last written")
+    void shouldRefuseWriteOverExternalChange() throws IOException {
+        //Arrange
+        Path path = dir.resolve("boards.csv");
+        AtomicCsvFile file = new AtomicCsvFile(path, HEADER);
+        file.write(1, List.of("1;first;2026-01-01T00:00"), true);
+        String external = HEADER + "\n1;first;2026-01-01T00:00\n2;external;2026-01-02T00:00\n";
+        Files.writeString(path, external);
+
+        //Act
+        IOException exception = assertThrows(IOException.class, () -> file.write(2, List.of("1;stale;2026-01-01T00:00"), true));
+
+        //Assert
+        assertTrue(exception.getMessage().contains("boards.csv"));
+        assertEquals(external, Files.readString(path));
+        assertEquals(1, file.writtenVersion());
+    }
+
+    @Test
+    @DisplayName("Should write again once the external change has been loaded")
+    void shouldWriteAfterLoadingExternalChange() throws IOException {
+        //Arrange
+        Path path = dir.resolve("boards.csv");
+        AtomicCsvFile file = new AtomicCsvFile(path, HEADER);
+        file.write(1, List.of("1;first;2026-01-01T00:00"), true);
+        Files.writeString(path, HEADER + "\n1;first;2026-01-01T00:00\n2;external;2026-01-02T00:00\n");
+
+        //Act
+        boolean reloaded = file.loadIfChanged(2, () -> {});
+        file.write(3, List.of("1;first;2026-01-01T00:00", "2;external;2026-01-02T00:00", "3;local;2026-01-03T00:00"), true);
+
+        //Assert
+        assertTrue(reloaded);
+        assertEquals(3, file.writtenVersion());
+        assertEquals(4, Files.readAllLines(path).size());
+    }
+
+    @Test
+    @DisplayName("Should mark versions replaced by a reload before reaching disk as superseded")
+    void shouldMarkVersionsReplacedByReloadAsSuperseded() throws IOException {
+        //Arrange
+        Path path = dir.resolve("boards.csv");
+        AtomicCsvFile file = new AtomicCsvFile(path, HEADER);
+        file.write(1, List.of("1;first;2026-01-01T00:00"), true);
+        Files.writeString(path, HEADER + "\n2;external;2026-01-02T00:00\n");
+
+        //Act
+        file.loadIfChanged(4, () -> {});
+
+        //Assert
+        assertFalse(file.superseded(1));
+        assertTrue(file.superseded(2));
+        assertTrue(file.superseded(3));
+        assertFalse(file.superseded(4));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.management.infrastructure.persistence.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Group commit writer")
+class GroupCommitWriterTest {
+
+    private static final String HEADER = "ID;TITLE;CREATED_AT";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should cover every submitted version with the snapshot taken at flush time")
+    void shouldCoverSubmittedVersionsWithOneSnapshot() throws IOException {
+        //Arrange
+        Path path = dir.resolve("boards.csv");
+        AtomicCsvFile file = new AtomicCsvFile(path, HEADER);
+        AtomicInteger snapshots = new AtomicInteger();
+        GroupCommitWriter writer = new GroupCommitWriter(file, () -> {
+            snapshots.incrementAndGet();
+            return new GroupCommitWriter.Snapshot(3, List.of("1;first;2026-01-01T00:00", "2;second;2026-01-02T00:00"));
+        }, DurabilityPolicy.EVERY_WRITE);
+
+        //Act
+        writer.submit(1);
+        writer.submit(2);
+        writer.submit(3);
+
+        //Assert
+        assertEquals(1, snapshots.get());
+        assertEquals(3, file.writtenVersion());
+        assertEquals(3, Files.readAllLines(path).size());
+    }
+
+    @Test
+    @DisplayName("Should reject a write whose version was replaced by a reload from disk")
+    void shouldRejectWriteReplacedByReload() throws IOException {
+        //Arrange
+        Path path = dir.resolve("boards.csv");
+        AtomicCsvFile file = new AtomicCsvFile(path, HEADER);
+        GroupCommitWriter writer = new GroupCommitWriter(file,
+                () -> new GroupCommitWriter.Snapshot(1, List.of("1;first;2026-01-01T00:00")), DurabilityPolicy.EVERY_WRITE);
+        writer.submit(1);
+        String external = HEADER + "\n2;external;2026-01-02T00:00\n";
+        Files.writeString(path, external);
+        file.loadIfChanged(3, () -> {});
+
+        //Act
+        IOException exception = assertThrows(IOException.class, () -> writer.submit(2));
+
+        //Assert
+        assertTrue(exception.getMessage().contains("reloaded"));
+        assertEquals(external, Files.readString(path));
+    }
+}
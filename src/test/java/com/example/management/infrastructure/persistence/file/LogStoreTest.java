@@ -0,0 +1,268 @@
+package com.example.management.infrastructure.persistence.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Append-only log store")
+class LogStoreTest {
+
+    private static final double NEVER_COMPACT = 2.0;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should discard a truncated tail on replay and keep appending after it")
+    void shouldDiscardTruncatedTailOnReplay() throws IOException {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            store.put(1, "first");
+            store.put(2, "second");
+        }
+        long sizeWithBothRecords = Files.size(path);
+        try(RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")){
+            file.setLength(sizeWithBothRecords - 3);
+        }
+
+        //Act
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            //Assert
+            assertEquals(Optional.of("first"), store.get(1));
+            assertFalse(store.contains(2));
+            assertTrue(Files.size(path) < sizeWithBothRecords - 3);
+
+            store.put(3, "third");
+        }
+
+        try(LogStore reopened = new LogStore(path, NEVER_COMPACT, 0)){
+            assertEquals(Optional.of("first"), reopened.get(1));
+            assertEquals(Optional.of("third"), reopened.get(3));
+            assertFalse(reopened.contains(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should discard a tail record whose checksum does not match")
+    void shouldDiscardCorruptTailOnReplay() throws IOException {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            store.put(1, "first");
+            store.put(2, "second");
+        }
+        try(RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")){
+            long lastByte = file.length() - 1;
+            file.seek(lastByte);
+            int value = file.read();
+            file.seek(lastByte);
+            file.write(value ^ 0xFF);
+        }
+
+        //Act
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            //Assert
+            assertEquals(Optional.of("first"), store.get(1));
+            assertFalse(store.contains(2));
+            assertEquals(1, store.maxId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep writes that arrive while compaction is running")
+    void shouldKeepWritesArrivingDuringCompaction() throws Exception {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        Map<Long, String> expected = new TreeMap<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            for(long id = 1; id <= 200; id++){
+                store.put(id, "v0-"+id);
+            }
+
+            Thread writer = new Thread(() -> {
+                try{
+                    for(int round = 1; round <= 20; round++){
+                        for(long id = 1; id <= 200; id++){
+                            if(id % 7 == 0 && round == 20) store.delete(id);
+                            else store.put(id, "v"+round+"-"+id);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+
+            //Act
+            writer.start();
+            while (writer.isAlive()){
+                store.compact();
+            }
+            writer.join();
+            store.compact();
+
+            for(long id = 1; id <= 200; id++){
+                if(id % 7 != 0) expected.put(id, "v20-"+id);
+            }
+
+            //Assert
+            assertNull(failure.get());
+            assertTrue(store.getCompactionCount() >= 1);
+            assertEquals(0.0, store.garbageRatio(), 1e-9);
+            for(long id = 1; id <= 200; id++){
+                assertEquals(Optional.ofNullable(expected.get(id)), store.get(id));
+            }
+        }
+
+        try(LogStore reopened = new LogStore(path, NEVER_COMPACT, 0)){
+            Map<Long, String> replayed = new TreeMap<>();
+            reopened.forEach(replayed::put);
+            assertEquals(expected, replayed);
+        }
+        assertFalse(Files.exists(dir.resolve("tasks.log.compact")));
+    }
+
+    @Test
+    @DisplayName("Should append to the compacted file and replay it after reopening")
+    void shouldAppendToCompactedFileAndReplayOnReopen() throws IOException {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        long sizeAfterCompaction;
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            for(int round = 0; round < 5; round++){
+                store.put(1, "first-"+round);
+                store.put(2, "second-"+round);
+            }
+            long sizeBeforeCompaction = Files.size(path);
+
+            //Act
+            store.compact();
+            sizeAfterCompaction = Files.size(path);
+            store.put(3, "third");
+            store.delete(2);
+
+            //Assert
+            assertTrue(sizeAfterCompaction < sizeBeforeCompaction);
+            assertTrue(Files.size(path) > sizeAfterCompaction);
+            assertEquals(Optional.of("first-4"), store.get(1));
+            assertEquals(Optional.of("third"), store.get(3));
+        }
+        assertFalse(Files.exists(dir.resolve("tasks.log.compact")));
+
+        try(LogStore reopened = new LogStore(path, NEVER_COMPACT, 0)){
+            Map<Long, String> replayed = new TreeMap<>();
+            reopened.forEach(replayed::put);
+            assertEquals(Map.of(1L, "first-4", 3L, "third"), replayed);
+            assertEquals(3, reopened.maxId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep max id after restart when its tombstone was compacted away")
+    void shouldKeepMaxIdAfterCompactingTombstones() throws IOException {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            store.put(1, "first");
+            store.put(2, "second");
+            store.put(3, "third");
+            store.delete(3);
+            store.delete(2);
+
+            //Act
+            CompactionStats stats = store.compact();
+
+            //Assert
+            assertTrue(stats.bytesReclaimed() > 0);
+            assertEquals(3, store.maxId());
+        }
+
+        try(LogStore reopened = new LogStore(path, NEVER_COMPACT, 0)){
+            assertEquals(3, reopened.maxId());
+            assertEquals(Optional.of("first"), reopened.get(1));
+            assertFalse(reopened.contains(3));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep max id after restart when every record was deleted and compacted")
+    void shouldKeepMaxIdWhenStoreCompactedToEmpty() throws IOException {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            store.put(5, "only");
+            store.delete(5);
+
+            //Act
+            store.compact();
+        }
+
+        //Assert
+        try(LogStore reopened = new LogStore(path, NEVER_COMPACT, 0)){
+            assertEquals(5, reopened.maxId());
+            assertFalse(reopened.contains(5));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep serving reads and writes after a compaction fails")
+    void shouldStayUsableAfterFailedCompaction() throws IOException {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            store.put(1, "first");
+            store.put(1, "second");
+            Files.createDirectories(dir.resolve("tasks.log.compact").resolve("blocker"));
+
+            //Act
+            assertThrows(IOException.class, store::compact);
+            store.put(2, "third");
+
+            //Assert
+            assertEquals(0, store.getCompactionCount());
+            assertEquals(Optional.of("second"), store.get(1));
+            assertEquals(Optional.of("third"), store.get(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete several records in one batch and replay the tombstones")
+    void shouldDeleteAllInOneBatch() throws IOException {
+        //Arrange
+        Path path = dir.resolve("tasks.log");
+        try(LogStore store = new LogStore(path, NEVER_COMPACT, 0)){
+            store.put(1, "first");
+            store.put(2, "second");
+            store.put(3, "third");
+
+            //Act
+            store.deleteAll(List.of(1L, 3L, 3L, 9L));
+
+            //Assert
+            assertFalse(store.contains(1));
+            assertEquals(Optional.of("second"), store.get(2));
+            assertFalse(store.contains(3));
+        }
+
+        try(LogStore reopened = new LogStore(path, NEVER_COMPACT, 0)){
+            Map<Long, String> replayed = new TreeMap<>();
+            reopened.forEach(replayed::put);
+            assertEquals(Map.of(2L, "second"), replayed);
+            assertEquals(3, reopened.maxId());
+        }
+    }
+}
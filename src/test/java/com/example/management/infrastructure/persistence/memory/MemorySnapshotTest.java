@@ -0,0 +1,107 @@
+package com.example.management.infrastructure.persistence.memory;
+
+import com.example.management.core.enums.ColumnType;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.BoardRow;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.ColumnRow;
+import com.example.management.infrastructure.persistence.memory.MemorySnapshot.TaskRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("In-memory versioned snapshot")
+class MemorySnapshotTest {
+
+    private static TaskRow task(long id, long columnId, long boardId){
+        return new TaskRow(id, "task "+id, "description", LocalDate.now(), false, LocalDateTime.now(), columnId, boardId);
+    }
+
+    private static List<Long> ids(List<TaskRow> rows){
+        return rows.stream().map(TaskRow::id).toList();
+    }
+
+    private static MemorySnapshot boardWithColumns(){
+        return MemorySnapshot.EMPTY
+                .putBoard(new BoardRow(1, "board", LocalDateTime.now()))
+                .putColumn(new ColumnRow(10, 1, ColumnType.TO_DO))
+                .putColumn(new ColumnRow(11, 1, ColumnType.DONE));
+    }
+
+    @Test
+    @DisplayName("Should move a task between column buckets and drop emptied buckets")
+    void shouldMoveTaskBetweenColumnBuckets(){
+        //Arrange
+        MemorySnapshot snapshot = boardWithColumns()
+                .putTask(task(100, 10, 1))
+                .putTask(task(101, 10, 1));
+
+        //Act
+        MemorySnapshot moved = snapshot.putTask(task(100, 11, 1)).putTask(task(101, 11, 1));
+
+        //Assert
+        assertNull(moved.tasksByColumn().get(10));
+        assertEquals(List.of(100L, 101L), ids(moved.tasksOfColumn(11)));
+        assertEquals(List.of(100L, 101L), ids(moved.tasksOfBoard(1)));
+        assertEquals(2, moved.tasks().size());
+    }
+
+    @Test
+    @DisplayName("Should remove a task from every bucket")
+    void shouldRemoveTaskFromBuckets(){
+        //Arrange
+        MemorySnapshot snapshot = boardWithColumns().putTask(task(100, 10, 1));
+
+        //Act
+        MemorySnapshot removed = snapshot.removeTask(100);
+
+        //Assert
+        assertTrue(removed.tasks().isEmpty());
+        assertNull(removed.tasksByColumn().get(10));
+        assertNull(removed.tasksByBoard().get(1));
+        assertSame(removed, removed.removeTask(100));
+    }
+
+    @Test
+    @DisplayName("Should move a column to its new board bucket")
+    void shouldMoveColumnBetweenBoardBuckets(){
+        //Arrange
+        MemorySnapshot snapshot = boardWithColumns().putBoard(new BoardRow(2, "other", LocalDateTime.now()));
+
+        //Act
+        MemorySnapshot moved = snapshot.putColumn(new ColumnRow(11, 2, ColumnType.DONE));
+
+        //Assert
+        assertEquals(1, moved.columnsByBoard().get(1).size());
+        assertTrue(moved.columnsByBoard().get(1).contains(10));
+        assertTrue(moved.columnsByBoard().get(2).contains(11));
+        assertEquals(2, moved.columns().size());
+    }
+
+    @Test
+    @DisplayName("Should leave older snapshots unchanged after updates")
+    void shouldKeepOlderSnapshotsUnchanged(){
+        //Arrange
+        MemorySnapshot before = boardWithColumns().putTask(task(100, 10, 1));
+
+        //Act
+        MemorySnapshot after = before
+                .putTask(task(100, 11, 1))
+                .putTask(task(102, 10, 1))
+                .removeTask(102)
+                .removeBoard(1);
+
+        //Assert
+        assertEquals(List.of(100L), ids(before.tasksOfColumn(10)));
+        assertTrue(before.tasksOfColumn(11).isEmpty());
+        assertEquals(10, before.tasks().get(100).columnId());
+        assertNotNull(before.boards().get(1));
+        assertEquals(1, before.tasks().size());
+
+        assertEquals(List.of(100L), ids(after.tasksOfColumn(11)));
+        assertNull(after.boards().get(1));
+    }
+}